@@ -0,0 +1,98 @@
+"""Circuit breaker for calls into Emacs."""
+
+import threading
+import time
+from typing import Any, Dict, Optional
+
+
+class CircuitBreaker:
+    """Stops sending calls to Emacs after repeated transport failures.
+
+    The breaker is closed while calls succeed. After failure_threshold
+    consecutive failures it opens and rejects calls for reset_timeout
+    seconds, so callers get an immediate error instead of queueing behind
+    another full timeout. Once the timeout passes a single trial call is let
+    through (half-open): success closes the breaker, failure reopens it.
+    """
+
+    CLOSED = "closed"
+    OPEN = "open"
+    HALF_OPEN = "half_open"
+
+    def __init__(self, failure_threshold: int = 3, reset_timeout: float = 60.0):
+        """Initialize CircuitBreaker.
+
+        Args:
+            failure_threshold: Consecutive failures that open the breaker (0 disables it)
+            reset_timeout: Seconds to reject calls before allowing a trial call
+        """
+        self.failure_threshold = failure_threshold
+        self.reset_timeout = reset_timeout
+        self.state = self.CLOSED
+        self.consecutive_failures = 0
+        self.rejected = 0
+        self.times_opened = 0
+        self._opened_at: Optional[float] = None
+        self._lock = threading.Lock()
+
+    def allow(self) -> bool:
+        """Return True if a call may be sent to Emacs now."""
+        if self.failure_threshold <= 0:
+            return True
+
+        with self._lock:
+            if self.state == self.CLOSED:
+                return True
+            if self.state == self.OPEN and time.monotonic() - self._opened_at >= self.reset_timeout:
+                self.state = self.HALF_OPEN
+                return True
+            self.rejected += 1
+            return False
+
+    def retry_after(self) -> float:
+        """Seconds until the breaker lets a trial call through."""
+        with self._lock:
+            if self.state != self.OPEN:
+                return 0.0
+            return max(0.0, self.reset_timeout - (time.monotonic() - self._opened_at))
+
+    def record_success(self) -> None:
+        """Record that Emacs answered a call."""
+        with self._lock:
+            self.state = self.CLOSED
+            self.consecutive_failures = 0
+            self._opened_at = None
+
+    def record_failure(self) -> None:
+        """Record that a call failed to reach Emacs or timed out."""
+        with self._lock:
+            self.consecutive_failures += 1
+            if self.failure_threshold > 0 and (
+                self.state == self.HALF_OPEN or self.consecutive_failures >= self.failure_threshold
+            ):
+                if self.state != self.OPEN:
+                    self.times_opened += 1
+                self.state = self.OPEN
+                self._opened_at = time.monotonic()
+
+    def record_aborted(self) -> None:
+        """Record that a call ended without showing whether Emacs is healthy.
+
+        A half-open trial that ends this way reopens the breaker without
+        restarting its timeout, so the next call becomes the trial.
+        """
+        with self._lock:
+            if self.state == self.HALF_OPEN:
+                self.state = self.OPEN
+
+    def stats(self) -> Dict[str, Any]:
+        """Return the breaker state and counters."""
+        with self._lock:
+            return {
+                "state": self.state,
+                "consecutive_failures": self.consecutive_failures,
+                "failure_threshold": self.failure_threshold,
+                "reset_timeout_seconds": self.reset_timeout,
+                "times_opened": self.times_opened,
+                "rejected_calls": self.rejected,
+            }
@@ -1,10 +1,23 @@
-"""Emacs client for executing elisp functions via emacsclient."""
+"""Emacs client for executing elisp functions via the Emacs server."""
 
+import functools
 import json
 import logging
 import os
 import subprocess
-from typing import Any, Dict, List, Optional, Union
+import threading
+import time
+from contextlib import contextmanager
+from typing import Any, Callable, Dict, Iterator, List, Optional, Set, Tuple, Union
+
+from .circuit_breaker import CircuitBreaker
+from .emacs_socket import (
+    EmacsServerConnection,
+    EmacsServerError,
+    EmacsServerEvalError,
+    EmacsServerUnavailable,
+)
+from .response_cache import ResponseCache
 
 logger = logging.getLogger(__name__)
 
@@ -14,6 +27,81 @@ class EmacsClientError(Exception):
     pass
 
 
+class EmacsLispError(EmacsClientError):
+    """Raised when Emacs signals an error while evaluating an expression."""
+    pass
+
+
+class EmacsUnavailableError(EmacsClientError):
+    """Raised without contacting Emacs while the circuit breaker is open."""
+    pass
+
+
+class EmacsBatchResultError(EmacsClientError):
+    """Raised when Emacs answered a combined batch call with an unusable result."""
+    pass
+
+
+class _FairLock:
+    """Lock granted to waiting threads in the order they asked for it.
+
+    A thread that releases the lock and asks again queues behind everyone
+    already waiting, so a long batch cannot keep other requests out of Emacs.
+    """
+
+    def __init__(self) -> None:
+        self._condition = threading.Condition()
+        self._next_ticket = 0
+        self._now_serving = 0
+        self._abandoned: Set[int] = set()
+
+    def acquire(self, timeout: Optional[float] = None) -> bool:
+        """Wait for the lock, for at most timeout seconds (forever if None).
+
+        Returns:
+            True if the lock was acquired, False if the wait timed out
+        """
+        with self._condition:
+            ticket = self._next_ticket
+            self._next_ticket += 1
+            if self._condition.wait_for(lambda: ticket == self._now_serving, timeout):
+                return True
+            # Skipped when its turn comes, so later waiters are not held up
+            self._abandoned.add(ticket)
+            return False
+
+    def release(self) -> None:
+        """Hand the lock to the next waiting thread."""
+        with self._condition:
+            self._now_serving += 1
+            while self._now_serving in self._abandoned:
+                self._abandoned.remove(self._now_serving)
+                self._now_serving += 1
+            self._condition.notify_all()
+
+    def __enter__(self) -> None:
+        self.acquire()
+
+    def __exit__(self, *exc_info: Any) -> None:
+        self.release()
+
+
+def _invalidates_cache(method: Callable[..., Any]) -> Callable[..., Any]:
+    """Mark an EmacsClient method that modifies notes.
+
+    Cached read responses are dropped once the method returns, whether or not
+    it succeeded, since a failed write may still have changed files. This also
+    makes results prefetched for any batch still in progress stale.
+    """
+    @functools.wraps(method)
+    def wrapper(self: "EmacsClient", *args: Any, **kwargs: Any) -> Any:
+        try:
+            return method(self, *args, **kwargs)
+        finally:
+            self.response_cache.invalidate_all()
+    return wrapper
+
+
 class EmacsClient:
     """Client for communicating with Emacs via emacsclient."""
     
@@ -36,6 +124,30 @@ class EmacsClient:
                 logger.info(f"Using default Emacs server path: {self.server_file}")
         
         self.timeout = 300  # seconds
+
+        # Evaluate over the server socket unless told to spawn emacsclient per call
+        self.use_socket = os.environ.get('EMACS_CLIENT_TRANSPORT', 'socket') != 'emacsclient'
+        self._server_connection = EmacsServerConnection(self.server_file)
+
+        # Fail fast instead of waiting out timeouts once Emacs stops answering
+        self.circuit_breaker = CircuitBreaker(
+            failure_threshold=int(os.environ.get('EMACS_CIRCUIT_FAILURE_THRESHOLD', '3')),
+            reset_timeout=float(os.environ.get('EMACS_CIRCUIT_RESET_TIMEOUT', '60'))
+        )
+
+        # Cache for repeated read_note, get_note_properties and semantic_search calls
+        self.response_cache = ResponseCache(
+            max_entries=int(os.environ.get('MCP_RESPONSE_CACHE_SIZE', '256')),
+            ttl=float(os.environ.get('MCP_RESPONSE_CACHE_TTL', '300'))
+        )
+
+        # Emacs evaluates one call at a time; calls from concurrent requests take turns,
+        # and give up after queue_timeout seconds (0 waits indefinitely)
+        self._emacs_lock = _FairLock()
+        self.queue_timeout = float(os.environ.get('EMACS_QUEUE_TIMEOUT', '60'))
+
+        # Results evaluated ahead of time by eval_elisp_batch, per handling thread
+        self._local = threading.local()
         
         # Log the resolved server file path for debugging
         logger.info(f"EmacsClient initialized with server file: {self.server_file}")
@@ -50,6 +162,13 @@ class EmacsClient:
         # Load required Emacs packages from local directory
         self._load_emacs_packages()
 
+    @property
+    def _prefetched(self) -> Dict[str, List[Union[Dict[str, Any], EmacsClientError]]]:
+        """Prefetched results for the batch handled on the current thread, keyed by expression."""
+        if not hasattr(self._local, "prefetched"):
+            self._local.prefetched = {}
+        return self._local.prefetched
+
     def _load_emacs_packages(self) -> None:
         """Verify that required elisp packages are loaded in Emacs."""
         try:
@@ -87,11 +206,7 @@ class EmacsClient:
         try:
             # Check if the package feature is loaded
             check_expr = f'(featurep (quote {package_name}))'
-            if os.path.exists(self.server_file):
-                command = f"emacsclient --server-file={self.server_file} -e '{check_expr}'"
-            else:
-                command = f"emacsclient -e '{check_expr}'"
-            response = self._execute_command(command)
+            response = self._run_elisp(check_expr)
             return response.strip() == 't'
         except Exception as e:
             logger.error(f"Failed to check package {package_name}: {e}")
@@ -140,9 +255,7 @@ class EmacsClient:
             EmacsClientError: If command fails
         """
         try:
-            logger.info(f"Executing command: {command}")
-            logger.info(f"Server file path: {self.server_file}")
-            logger.info(f"Server file exists: {os.path.exists(self.server_file)}")
+            logger.debug(f"Executing command: {command}")
             
             result = subprocess.run(
                 command,
@@ -153,13 +266,14 @@ class EmacsClient:
                 check=False
             )
             
-            logger.info(f"Command return code: {result.returncode}")
-            logger.info(f"Command stderr: {result.stderr}")
-            logger.info(f"Command stdout: {result.stdout}")
+            logger.debug(f"Command return code: {result.returncode}")
+            logger.debug(f"Command stderr: {result.stderr}")
             
             if result.returncode != 0:
                 error_msg = f"emacsclient failed with code {result.returncode}: {result.stderr}"
                 logger.error(error_msg)
+                if "*ERROR*" in result.stderr:
+                    raise EmacsLispError(error_msg)
                 raise EmacsClientError(error_msg)
             
             logger.debug(f"Command output: {result.stdout}")
@@ -172,7 +286,90 @@ class EmacsClient:
         except Exception as e:
             error_msg = f"Failed to execute emacsclient: {e}"
             logger.error(error_msg)
-            raise EmacsClientError(error_msg) from e
+            error_class = EmacsLispError if isinstance(e, EmacsLispError) else EmacsClientError
+            raise error_class(error_msg) from e
+
+    def _emacsclient_command(self, expression: str) -> str:
+        """Build the emacsclient shell command that evaluates an expression."""
+        # Escape the elisp expression for shell
+        safe_expression = (expression
+                          .replace("\\", "\\\\")
+                          .replace('"', '\\"')
+                          .replace('`', '\\`')
+                          .replace('$', '\\$'))
+
+        if os.path.exists(self.server_file):
+            return f'emacsclient --server-file={self.server_file} -e "{safe_expression}"'
+        return f'emacsclient -e "{safe_expression}"'
+
+    def _run_elisp(self, expression: str) -> str:
+        """Evaluate an elisp expression and return its printed value.
+
+        Talks to the Emacs server socket directly, and falls back to spawning
+        emacsclient when no server socket can be reached. Concurrent calls are
+        sent one at a time, in arrival order; a call that waits longer than
+        queue_timeout for its turn is rejected. Calls are rejected immediately
+        while the circuit breaker is open.
+
+        Args:
+            expression: Elisp expression to evaluate
+
+        Returns:
+            The printed value, as emacsclient -e would output it
+
+        Raises:
+            EmacsUnavailableError: If the circuit breaker is open or the wait timed out
+            EmacsLispError: If Emacs signals an error
+            EmacsClientError: If Emacs cannot be reached or times out
+        """
+        if not self._emacs_lock.acquire(self.queue_timeout or None):
+            raise EmacsUnavailableError(
+                f"Emacs is busy; gave up after waiting {self.queue_timeout:.0f} seconds "
+                f"for earlier calls"
+            )
+
+        try:
+            # Checked after waiting, since the call ahead may have opened the breaker
+            if not self.circuit_breaker.allow():
+                raise EmacsUnavailableError(
+                    f"Emacs is not responding; calls suspended for another "
+                    f"{self.circuit_breaker.retry_after():.0f} seconds"
+                )
+
+            try:
+                response = self._evaluate(expression)
+            except EmacsLispError:
+                # Emacs answered, so the connection itself is healthy
+                self.circuit_breaker.record_success()
+                raise
+            except EmacsClientError:
+                self.circuit_breaker.record_failure()
+                raise
+            except BaseException:
+                # Any other outcome must still end a half-open trial
+                self.circuit_breaker.record_aborted()
+                raise
+
+            self.circuit_breaker.record_success()
+            return response
+        finally:
+            self._emacs_lock.release()
+
+    def _evaluate(self, expression: str) -> str:
+        """Evaluate an expression over the server socket, or via emacsclient as a fallback."""
+        if self.use_socket:
+            try:
+                return self._server_connection.eval(expression, self.timeout).strip()
+            except EmacsServerUnavailable as e:
+                logger.debug(f"Emacs server socket unavailable, using emacsclient: {e}")
+            except EmacsServerEvalError as e:
+                logger.error(str(e))
+                raise EmacsLispError(str(e)) from e
+            except EmacsServerError as e:
+                logger.error(str(e))
+                raise EmacsClientError(str(e)) from e
+
+        return self._execute_command(self._emacsclient_command(expression))
 
     def _parse_json_with_control_char_fix(self, json_str: str) -> Dict[str, Any]:
         """Parse JSON string with control character escaping.
@@ -354,21 +551,140 @@ class EmacsClient:
         Raises:
             EmacsClientError: If evaluation fails
         """
-        # Escape the elisp expression for shell
-        safe_expression = (expression
-                          .replace("\\", "\\\\")
-                          .replace('"', '\\"')
-                          .replace('`', '\\`')
-                          .replace('$', '\\$'))
-
-        if os.path.exists(self.server_file):
-            command = f'emacsclient --server-file={self.server_file} -e "{safe_expression}"'
-        else:
-            command = f'emacsclient -e "{safe_expression}"'
-        
-        response = self._execute_command(command)
+        pending = self._prefetched.get(expression)
+        if pending and self._local.prefetch_stamp[0] != self.response_cache.generation:
+            # A write ran since the batch was evaluated, on this or another thread
+            self._prefetched.clear()
+        elif pending:
+            result = pending.pop(0)
+            if isinstance(result, EmacsClientError):
+                raise result
+            return result
+
+        response = self._run_elisp(expression)
         return self._parse_json_response(response)
     
+    def _eval_elisp_cached(self, expression: str) -> Dict[str, Any]:
+        """Evaluate a read-only elisp expression, reusing a cached response if still valid.
+
+        Args:
+            expression: Read-only elisp expression returning JSON
+
+        Returns:
+            Parsed JSON response from elisp function
+        """
+        cached = self.response_cache.get(expression)
+        if cached is not None:
+            return cached
+
+        # Taken before evaluating, so a write that lands meanwhile keeps the result out
+        generation = self.response_cache.generation
+        started_ns = time.time_ns()
+        if self._prefetched.get(expression):
+            # The result may have been evaluated earlier, with the batch
+            started_ns = self._local.prefetch_stamp[1]
+        result = self.eval_elisp(expression)
+        self.response_cache.put(expression, result, generation, started_ns)
+        return result
+
+    def eval_elisp_batch(
+        self,
+        expressions: List[str]
+    ) -> List[Union[Dict[str, Any], EmacsClientError]]:
+        """Evaluate several JSON-returning elisp expressions in one Emacs evaluation.
+
+        Each expression is wrapped in condition-case, so an elisp error in one
+        of them is reported for that entry only and the others still run.
+
+        Args:
+            expressions: Elisp expressions that each return a JSON string
+
+        Returns:
+            One entry per expression, in order: the parsed JSON response, or an
+            EmacsClientError if that entry could not be evaluated or parsed
+
+        Raises:
+            EmacsBatchResultError: If the combined result cannot be split into
+                one entry per expression
+            EmacsClientError: If the combined call itself fails
+        """
+        wrapped = [
+            f'(condition-case err {expression} '
+            f'(error (json-encode (list (cons (quote success) :json-false) '
+            f'(cons (quote error) (error-message-string err))))))'
+            for expression in expressions
+        ]
+        combined = f'(json-encode (vector {" ".join(wrapped)}))'
+
+        response = self._eval_elisp_raw(combined)
+        try:
+            parsed = self._parse_json_response(response)
+        except EmacsClientError as e:
+            raise EmacsBatchResultError(str(e)) from e
+        if not isinstance(parsed, list) or len(parsed) != len(expressions):
+            raise EmacsBatchResultError(
+                f"Batch evaluation returned {type(parsed).__name__} "
+                f"instead of {len(expressions)} results"
+            )
+
+        results: List[Union[Dict[str, Any], EmacsClientError]] = []
+        for item in parsed:
+            if isinstance(item, str):
+                try:
+                    results.append(self._parse_json_response(item))
+                except EmacsClientError as e:
+                    results.append(e)
+            else:
+                results.append(item)
+        return results
+
+    def prefetch_stamp(self) -> Tuple[int, int]:
+        """Return the stamp to take before eval_elisp_batch and pass to prefetched()."""
+        return self.response_cache.generation, time.time_ns()
+
+    @contextmanager
+    def prefetched(
+        self,
+        expressions: List[str],
+        results: List[Union[Dict[str, Any], EmacsClientError]],
+        stamp: Optional[Tuple[int, int]] = None
+    ) -> Iterator[None]:
+        """Serve eval_elisp calls from results already computed by eval_elisp_batch.
+
+        Inside the block, each call to eval_elisp with one of the given
+        expressions consumes the matching result instead of evaluating it
+        again. Expressions that were not prefetched, or whose results
+        are used up, are evaluated as usual. Once a write operation has run on
+        any thread, the remaining results are discarded, so later reads see its
+        changes. Results are only visible to the calling thread.
+
+        Args:
+            expressions: Expressions passed to eval_elisp_batch
+            results: Results returned by eval_elisp_batch, in the same order
+            stamp: prefetch_stamp() taken before eval_elisp_batch (defaults to now)
+        """
+        self._local.prefetched = {}
+        self._local.prefetch_stamp = stamp or self.prefetch_stamp()
+        for expression, result in zip(expressions, results):
+            self._prefetched.setdefault(expression, []).append(result)
+        try:
+            yield
+        finally:
+            self._local.prefetched = {}
+            self._local.prefetch_stamp = None
+
+    def contextual_search_expression(self, query: str, limit: int = 10) -> str:
+        """Build the elisp expression evaluated by contextual_search."""
+        return f'(my/api-contextual-search "{self._escape_for_elisp(query)}" {limit})'
+
+    def semantic_search_expression(self, query: str, limit: int = 10, cutoff: float = 0.55) -> str:
+        """Build the elisp expression evaluated by semantic_search."""
+        return f'(my/api-semantic-search "{self._escape_for_elisp(query)}" {limit} {cutoff})'
+
+    def search_notes_expression(self, query: str) -> str:
+        """Build the elisp expression evaluated by search_notes."""
+        return f'(my/api-search-notes "{self._escape_for_elisp(query)}")'
+
     def contextual_search(self, query: str, limit: int = 10) -> Dict[str, Any]:
         """Perform contextual search in org-roam.
 
@@ -379,8 +695,7 @@ class EmacsClient:
         Returns:
             Search results with enhanced context
         """
-        expression = f'(my/api-contextual-search "{self._escape_for_elisp(query)}" {limit})'
-        return self.eval_elisp(expression)
+        return self.eval_elisp(self.contextual_search_expression(query, limit))
 
     def semantic_search(self, query: str, limit: int = 10, cutoff: float = 0.55) -> Dict[str, Any]:
         """Perform semantic vector search using org-roam-semantic.
@@ -393,8 +708,7 @@ class EmacsClient:
         Returns:
             Semantically similar notes with full content and similarity scores
         """
-        expression = f'(my/api-semantic-search "{self._escape_for_elisp(query)}" {limit} {cutoff})'
-        return self.eval_elisp(expression)
+        return self._eval_elisp_cached(self.semantic_search_expression(query, limit, cutoff))
     
     def search_notes(self, query: str) -> Dict[str, Any]:
         """Perform basic search in org-roam.
@@ -405,9 +719,9 @@ class EmacsClient:
         Returns:
             Basic search results
         """
-        expression = f'(my/api-search-notes "{self._escape_for_elisp(query)}")'
-        return self.eval_elisp(expression)
+        return self.eval_elisp(self.search_notes_expression(query))
     
+    @_invalidates_cache
     def create_note(
         self,
         title: str,
@@ -484,6 +798,7 @@ class EmacsClient:
 
         return note_content
     
+    @_invalidates_cache
     def add_daily_entry(
         self,
         timestamp: str,
@@ -523,20 +838,9 @@ class EmacsClient:
                      f'"{self._escape_for_elisp(formatted_title)}" {points_list} {steps_list} {tags_list})')
 
         # This function returns a plain string message, not JSON
-        # Use _execute_command directly instead of eval_elisp
-        safe_expression = (expression
-                          .replace("\\", "\\\\")
-                          .replace('"', '\\"')
-                          .replace('`', '\\`')
-                          .replace('$', '\\$'))
-
-        if os.path.exists(self.server_file):
-            command = f'emacsclient --server-file={self.server_file} -e "{safe_expression}"'
-        else:
-            command = f'emacsclient -e "{safe_expression}"'
-
+        # Use _run_elisp directly instead of eval_elisp
         try:
-            response = self._execute_command(command)
+            response = self._run_elisp(expression)
             # Response is a quoted string like "Added journal entry..."
             return {"success": True, "message": response.strip().strip('"')}
         except EmacsClientError as e:
@@ -558,11 +862,7 @@ class EmacsClient:
 
         # This returns raw content, not JSON
         try:
-            if os.path.exists(self.server_file):
-                command = f'emacsclient --server-file={self.server_file} -e "{expression}"'
-            else:
-                command = f'emacsclient -e "{expression}"'
-            response = self._execute_command(command)
+            response = self._run_elisp(expression)
 
             # Clean the response - it may have literal \n characters
             content = response.replace('\\n', '\n').strip()
@@ -583,6 +883,7 @@ class EmacsClient:
                 "date": date or "today"
             }
 
+    @_invalidates_cache
     def generate_embeddings(self, force: bool = False) -> Dict[str, Any]:
         """Generate embeddings for all org-roam notes using org-roam-semantic.
 
@@ -604,13 +905,9 @@ class EmacsClient:
             expression = '(org-roam-semantic-generate-all-embeddings)'
 
         try:
-            # This function may take a while for large corpora (handled by default subprocess timeout)
+            # This function may take a while for large corpora (handled by the default timeout)
             # The function returns the number of embeddings generated
-            if os.path.exists(self.server_file):
-                command = f'emacsclient --server-file={self.server_file} -e "{expression}"'
-            else:
-                command = f'emacsclient -e "{expression}"'
-            response = self._execute_command(command)
+            response = self._run_elisp(expression)
 
             # Parse the response - might be a number or a message string
             response_str = response.strip().strip('"')  # Remove quotes if present
@@ -627,12 +924,9 @@ class EmacsClient:
 
             # Save all modified org-roam buffers to persist embeddings to disk
             # This ensures the agent can immediately see the updated files
-            if os.path.exists(self.server_file):
-                save_cmd = f'emacsclient --server-file={self.server_file} -e "(save-some-buffers t (lambda () (and (buffer-file-name) (string-match-p \\"\\\\.org\\$\\" (buffer-file-name)))))"'
-            else:
-                save_cmd = f'emacsclient -e "(save-some-buffers t (lambda () (and (buffer-file-name) (string-match-p \\"\\\\.org\\$\\" (buffer-file-name)))))"'
+            save_elisp = '(save-some-buffers t (lambda () (and (buffer-file-name) (string-match-p "\\\\.org$" (buffer-file-name)))))'
             try:
-                self._execute_command(save_cmd)
+                self._run_elisp(save_elisp)
                 logger.info(f"Saved all modified org-roam buffers")
             except Exception as save_err:
                 logger.warning(f"Failed to save buffers after embedding generation: {save_err}")
@@ -652,6 +946,7 @@ class EmacsClient:
 
 
 
+    @_invalidates_cache
     def generate_note_embedding(self, file_path: str) -> Dict[str, Any]:
         """Generate embedding for a single org-roam note file.
 
@@ -665,27 +960,18 @@ class EmacsClient:
             Result with success status and message
         """
         escaped_path = self._escape_for_elisp(file_path)
-        # Use single quotes for shell to preserve double quotes in elisp string
         elisp = f'(org-roam-semantic-generate-embedding "{escaped_path}")'
 
         try:
-            if os.path.exists(self.server_file):
-                command = f"emacsclient --server-file={self.server_file} -e '{elisp}'"
-            else:
-                command = f"emacsclient -e '{elisp}'"
-            response = self._execute_command(command)
+            response = self._run_elisp(elisp)
 
             # Response like: "Chunk embedding generation complete for file.org: 12 processed, 1 skipped"
             response_str = response.strip().strip('"')
 
             # Save modified org buffer to persist embedding to disk
             save_elisp = f'(let ((buf (find-buffer-visiting "{escaped_path}"))) (when buf (with-current-buffer buf (save-buffer))))'
-            if os.path.exists(self.server_file):
-                save_cmd = f"emacsclient --server-file={self.server_file} -e '{save_elisp}'"
-            else:
-                save_cmd = f"emacsclient -e '{save_elisp}'"
             try:
-                self._execute_command(save_cmd)
+                self._run_elisp(save_elisp)
             except Exception as save_err:
                 logger.warning(f"Failed to save buffer after embedding: {save_err}")
 
@@ -702,6 +988,7 @@ class EmacsClient:
                 "file": file_path
             }
 
+    @_invalidates_cache
     def add_inbox_entry(
         self,
         command: str,
@@ -738,6 +1025,7 @@ class EmacsClient:
 
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def sync_database(self, force: bool = True) -> Dict[str, Any]:
         """Sync org-roam database.
 
@@ -763,6 +1051,7 @@ class EmacsClient:
     # Structured Node Types (Phase 2)
     # =========================================================================
 
+    @_invalidates_cache
     def create_person(
         self,
         name: str,
@@ -802,6 +1091,7 @@ class EmacsClient:
         expression = f'(my/api-create-person {" ".join(params)})'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def create_project(
         self,
         title: str,
@@ -905,31 +1195,19 @@ class EmacsClient:
 
     def _eval_elisp_raw(self, expression: str) -> str:
         """Evaluate elisp expression and return raw string (no JSON parsing)."""
-        safe_expression = (expression
-                          .replace("\\", "\\\\")
-                          .replace('"', '\\"')
-                          .replace('`', '\\`')
-                          .replace('$', '\\$'))
-        if os.path.exists(self.server_file):
-            command = f'emacsclient --server-file={self.server_file} -e "{safe_expression}"'
-        else:
-            command = f'emacsclient -e "{safe_expression}"'
-        return self._execute_command(command)
+        return self._run_elisp(expression)
 
     def _get_org_roam_directory(self) -> str:
         """Get the org-roam directory path."""
-        # Use _execute_command directly since this returns a plain string, not JSON
+        # Use _run_elisp directly since this returns a plain string, not JSON
         expression = '(expand-file-name org-roam-directory)'
-        if os.path.exists(self.server_file):
-            command = f'emacsclient --server-file={self.server_file} -e "{expression}"'
-        else:
-            command = f'emacsclient -e "{expression}"'
         try:
-            result = self._execute_command(command)
+            result = self._run_elisp(expression)
             return result.strip().strip('"')
         except Exception:
             return os.path.expanduser("~/org-roam")
 
+    @_invalidates_cache
     def create_idea(
         self,
         title: str,
@@ -959,6 +1237,7 @@ class EmacsClient:
         expression = f'(my/api-create-idea {" ".join(params)})'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def create_admin(
         self,
         title: str,
@@ -1048,6 +1327,7 @@ class EmacsClient:
         expression = '(my/api-get-digest-data)'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def log_to_inbox(self, text: str) -> Dict[str, Any]:
         """Log text to inbox and auto-create person nodes for [[Name]] links.
 
@@ -1071,8 +1351,9 @@ class EmacsClient:
         expression = '(my/api-get-dangling-followups)'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def change_task_state(self, file: str, heading: str, new_state: str):
-        """Change the TODO state of a task using emacsclient.
+        """Change the TODO state of a task in Emacs.
         
         This triggers org-after-todo-state-change-hook, which logs to daily notes.
         """
@@ -1082,7 +1363,7 @@ class EmacsClient:
             escaped_state = self._escape_for_elisp(new_state)
             
             elisp = f'(my/org-roam-change-task-state "{escaped_file}" "{escaped_heading}" "{escaped_state}")'
-            result = self._execute_elisp(elisp)
+            result = self._run_elisp(elisp)
             
             return {"success": True, "message": result}
         except EmacsClientError as e:
@@ -1099,12 +1380,15 @@ class EmacsClient:
         Returns:
             Note content, title, properties, and metadata
         """
+        return self._eval_elisp_cached(self.read_note_expression(identifier, section))
+
+    def read_note_expression(self, identifier: str, section: str = None) -> str:
+        """Build the elisp expression evaluated by read_note."""
         if section:
-            expression = f'(my/api-read-note "{self._escape_for_elisp(identifier)}" "{self._escape_for_elisp(section)}")'
-        else:
-            expression = f'(my/api-read-note "{self._escape_for_elisp(identifier)}")'
-        return self.eval_elisp(expression)
+            return f'(my/api-read-note "{self._escape_for_elisp(identifier)}" "{self._escape_for_elisp(section)}")'
+        return f'(my/api-read-note "{self._escape_for_elisp(identifier)}")'
 
+    @_invalidates_cache
     def update_note(self, identifier: str, content: str, section: str = None, mode: str = "append") -> Dict[str, Any]:
         """Update content in a note by ID or path.
 
@@ -1140,34 +1424,44 @@ class EmacsClient:
         Returns:
             List of notes matching filters
         """
+        return self.eval_elisp(self.list_notes_expression(node_type, status, limit, sort_by))
+
+    def list_notes_expression(self, node_type: str = None, status: str = None, limit: int = 50, sort_by: str = "modified") -> str:
+        """Build the elisp expression evaluated by list_notes."""
         type_arg = f'"{node_type}"' if node_type else 'nil'
         status_arg = f'"{status}"' if status else 'nil'
         sort_arg = f'"{sort_by}"' if sort_by else '"modified"'
         
-        expression = f'(my/api-list-notes {type_arg} {status_arg} {limit} {sort_arg})'
-        return self.eval_elisp(expression)
+        return f'(my/api-list-notes {type_arg} {status_arg} {limit} {sort_arg})'
 
     def get_note_properties(self, identifier: str) -> Dict[str, Any]:
         """Get metadata for a note without full content."""
-        expression = f'(my/api-get-note-properties "{self._escape_for_elisp(identifier)}")'
-        return self.eval_elisp(expression)
+        return self._eval_elisp_cached(self.get_note_properties_expression(identifier))
+
+    def get_note_properties_expression(self, identifier: str) -> str:
+        """Build the elisp expression evaluated by get_note_properties."""
+        return f'(my/api-get-note-properties "{self._escape_for_elisp(identifier)}")'
 
+    @_invalidates_cache
     def delete_note(self, identifier: str, archive: bool = False) -> Dict[str, Any]:
         """Delete or archive a note."""
         archive_arg = "t" if archive else "nil"
         expression = f'(my/api-delete-note "{self._escape_for_elisp(identifier)}" {archive_arg})'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def rename_note(self, identifier: str, new_title: str) -> Dict[str, Any]:
         """Rename a note and update its title."""
         expression = f'(my/api-rename-note "{self._escape_for_elisp(identifier)}" "{self._escape_for_elisp(new_title)}")'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def manage_tags(self, identifier: str, action: str, tag: str) -> Dict[str, Any]:
         """Add or remove a tag from a note."""
         expression = f'(my/api-manage-tags "{self._escape_for_elisp(identifier)}" "{action}" "{self._escape_for_elisp(tag)}")'
         return self.eval_elisp(expression)
 
+    @_invalidates_cache
     def add_link(self, from_id: str, to_id: str, section: str = None) -> Dict[str, Any]:
         """Add an org-roam link between two notes."""
         if section:
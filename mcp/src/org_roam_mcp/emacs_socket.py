@@ -0,0 +1,176 @@
+"""Direct client for the Emacs server protocol.
+
+Speaks the same line protocol as emacsclient over the server's Unix domain
+socket or its TCP port (described by the server file), so evaluating an
+expression does not need a shell or an emacsclient process.
+"""
+
+import os
+import re
+import socket
+import stat
+from typing import List, Optional, Tuple
+
+# Length of the authentication key written to a TCP server file
+AUTH_KEY_LENGTH = 64
+
+_QUOTE_RE = re.compile(r"[-&\n ]")
+_QUOTES = {"&": "&&", "-": "&-", "\n": "&n", " ": "&_"}
+_UNQUOTE_RE = re.compile(r"&(.)", re.DOTALL)
+_UNQUOTES = {"&": "&", "-": "-", "n": "\n"}
+
+
+class EmacsServerUnavailable(Exception):
+    """Raised when no Emacs server could be reached; nothing was sent."""
+    pass
+
+
+class EmacsServerError(Exception):
+    """Raised when Emacs reports an error or the exchange fails after connecting."""
+    pass
+
+
+class EmacsServerEvalError(EmacsServerError):
+    """Raised when Emacs signals an error while evaluating the expression."""
+    pass
+
+
+def quote_argument(value: str) -> str:
+    """Quote an argument the way server.el's server-quote-arg does."""
+    return _QUOTE_RE.sub(lambda m: _QUOTES[m.group(0)], value)
+
+
+def unquote_argument(value: str) -> str:
+    """Reverse quote_argument, as server.el's server-unquote-arg does."""
+    return _UNQUOTE_RE.sub(lambda m: _UNQUOTES.get(m.group(1), " "), value)
+
+
+class EmacsServerConnection:
+    """Evaluates elisp by talking to a running Emacs server directly.
+
+    The Emacs server closes a client connection once its -eval has been
+    answered, so every call opens a fresh socket. That is still a local
+    connect rather than a shell plus an emacsclient process per call.
+    """
+
+    def __init__(self, server_file: str):
+        """Initialize EmacsServerConnection.
+
+        Args:
+            server_file: Path to the Emacs server file (TCP) or socket (local)
+        """
+        self.server_file = server_file
+
+    def _default_socket_paths(self) -> List[str]:
+        """Local socket locations emacsclient tries when no server file is given."""
+        paths = []
+        env_socket = os.environ.get("EMACS_SOCKET_NAME")
+        if env_socket:
+            paths.append(env_socket)
+        runtime_dir = os.environ.get("XDG_RUNTIME_DIR")
+        if runtime_dir:
+            paths.append(os.path.join(runtime_dir, "emacs", "server"))
+        paths.append(os.path.join(f"/tmp/emacs{os.getuid()}", "server"))
+        return paths
+
+    def _read_server_file(self) -> Tuple[str, int, str]:
+        """Parse a TCP server file into host, port and authentication key."""
+        with open(self.server_file, encoding="utf-8") as f:
+            address_line = f.readline()
+            auth_key = f.read(AUTH_KEY_LENGTH)
+
+        try:
+            address = address_line.split()[0]
+            host, port = address.rsplit(":", 1)
+            return host, int(port), auth_key
+        except (IndexError, ValueError) as e:
+            raise EmacsServerUnavailable(
+                f"Malformed Emacs server file {self.server_file}: {address_line.strip()!r}"
+            ) from e
+
+    def _connect(self, timeout: float) -> Tuple[socket.socket, Optional[str]]:
+        """Open a connection to the Emacs server.
+
+        Returns:
+            The connected socket and the authentication key (TCP only)
+
+        Raises:
+            EmacsServerUnavailable: If no server could be reached
+        """
+        try:
+            if os.path.exists(self.server_file):
+                if stat.S_ISSOCK(os.stat(self.server_file).st_mode):
+                    sock = socket.socket(socket.AF_UNIX, socket.SOCK_STREAM)
+                    sock.settimeout(timeout)
+                    sock.connect(self.server_file)
+                    return sock, None
+
+                host, port, auth_key = self._read_server_file()
+                sock = socket.create_connection((host, port), timeout=timeout)
+                return sock, auth_key
+
+            for path in self._default_socket_paths():
+                if os.path.exists(path):
+                    sock = socket.socket(socket.AF_UNIX, socket.SOCK_STREAM)
+                    sock.settimeout(timeout)
+                    sock.connect(path)
+                    return sock, None
+        except OSError as e:
+            raise EmacsServerUnavailable(f"Cannot connect to Emacs server: {e}") from e
+
+        raise EmacsServerUnavailable(f"No Emacs server socket found for {self.server_file}")
+
+    def eval(self, expression: str, timeout: float) -> str:
+        """Evaluate an elisp expression and return its printed value.
+
+        The result is what emacsclient -e would print on stdout.
+
+        Args:
+            expression: Elisp expression to evaluate
+            timeout: Seconds to wait for Emacs before giving up
+
+        Returns:
+            The printed value of the expression
+
+        Raises:
+            EmacsServerUnavailable: If no server could be reached
+            EmacsServerError: If Emacs signals an error or the exchange fails
+        """
+        sock, auth_key = self._connect(timeout)
+        try:
+            message = ""
+            if auth_key is not None:
+                message += f"-auth {auth_key} "
+            message += f"-current-frame -eval {quote_argument(expression)} \n"
+            # Lone surrogates cannot be sent to Emacs; replace them rather than fail
+            sock.sendall(message.encode("utf-8", errors="replace"))
+
+            chunks = []
+            while True:
+                data = sock.recv(65536)
+                if not data:
+                    break
+                chunks.append(data)
+        except socket.timeout as e:
+            raise EmacsServerError(f"Emacs server timed out after {timeout} seconds") from e
+        except OSError as e:
+            raise EmacsServerError(f"Emacs server connection failed: {e}") from e
+        finally:
+            sock.close()
+
+        return self._parse_reply(b"".join(chunks).decode("utf-8", errors="replace"))
+
+    def _parse_reply(self, reply: str) -> str:
+        """Collect -print output from a server reply, raising on -error."""
+        output = []
+        for line in reply.split("\n"):
+            command, _, argument = line.partition(" ")
+            if command == "-print":
+                if output and not output[-1].endswith("\n"):
+                    output.append("\n")
+                output.append(unquote_argument(argument))
+            elif command == "-print-nonl":
+                output.append(unquote_argument(argument))
+            elif command == "-error":
+                raise EmacsServerEvalError(f"Emacs server returned an error: {unquote_argument(argument)}")
+        return "".join(output)
@@ -0,0 +1,152 @@
+"""Response cache for read-only Emacs tool calls."""
+
+import copy
+import os
+import threading
+import time
+from collections import OrderedDict
+from typing import Any, Dict, List, Optional, Tuple
+
+# Files modified this close to the start of an evaluation are not trusted to
+# be reflected in its response, since mtimes are only so precise
+MTIME_MARGIN_NS = 1_000_000_000
+
+
+class ResponseCache:
+    """Size-bounded LRU cache of parsed elisp responses.
+
+    Each entry remembers the modification time of every note file the
+    response refers to. A lookup is a hit only while all those files are
+    unchanged and the entry is younger than the TTL; the TTL bounds how long
+    changes in other files (new backlinks, newly similar notes) can go
+    unseen. Write operations are expected to call invalidate_all().
+
+    A response is only stored if no invalidation happened and none of its
+    files changed since the evaluation started, so a write that lands while
+    a read is in flight cannot leave the old response cached.
+    """
+
+    def __init__(self, max_entries: int = 256, ttl: float = 300.0):
+        """Initialize ResponseCache.
+
+        Args:
+            max_entries: Maximum number of cached responses (0 disables caching)
+            ttl: Maximum age of an entry in seconds
+        """
+        self.max_entries = max_entries
+        self.ttl = ttl
+        self._entries: "OrderedDict[str, Tuple[float, Dict[str, int], Dict[str, Any]]]" = OrderedDict()
+        self._lock = threading.Lock()
+        self.hits = 0
+        self.misses = 0
+        self.stale = 0
+        self.evictions = 0
+        # Number of invalidate_all() calls, compared by put() to detect writes
+        self.generation = 0
+
+    def _referenced_files(self, response: Dict[str, Any]) -> List[str]:
+        """Collect the note files a response was built from."""
+        files = []
+        if isinstance(response.get("file"), str):
+            files.append(response["file"])
+        for note in response.get("notes") or []:
+            if isinstance(note, dict) and isinstance(note.get("file"), str):
+                files.append(note["file"])
+        return files
+
+    def _snapshot(self, files: List[str]) -> Optional[Dict[str, int]]:
+        """Record current mtimes, or None if any file cannot be checked."""
+        mtimes = {}
+        for path in files:
+            try:
+                mtimes[path] = os.stat(path).st_mtime_ns
+            except OSError:
+                return None
+        return mtimes
+
+    def get(self, key: str) -> Optional[Dict[str, Any]]:
+        """Return a copy of the cached response for key, or None on a miss."""
+        with self._lock:
+            entry = self._entries.get(key)
+            if entry is None:
+                self.misses += 1
+                return None
+
+            stored_at, mtimes, response = entry
+            if time.monotonic() - stored_at > self.ttl or self._snapshot(list(mtimes)) != mtimes:
+                del self._entries[key]
+                self.stale += 1
+                self.misses += 1
+                return None
+
+            self._entries.move_to_end(key)
+            self.hits += 1
+            return copy.deepcopy(response)
+
+    def contains(self, key: str) -> bool:
+        """Return True if key has a valid entry, without counting a lookup."""
+        with self._lock:
+            entry = self._entries.get(key)
+            if entry is None:
+                return False
+            stored_at, mtimes, _ = entry
+            return time.monotonic() - stored_at <= self.ttl and self._snapshot(list(mtimes)) == mtimes
+
+    def put(
+        self,
+        key: str,
+        response: Any,
+        generation: Optional[int] = None,
+        started_ns: Optional[int] = None
+    ) -> None:
+        """Cache a successful response whose note files can be checked for changes.
+
+        Args:
+            key: Expression the response was evaluated from
+            response: Parsed response
+            generation: Value of self.generation taken before evaluating; the
+                response is dropped if the cache was invalidated since
+            started_ns: time.time_ns() taken before evaluating; the response is
+                dropped if any of its files was modified around or after it
+        """
+        if self.max_entries <= 0 or not isinstance(response, dict) or response.get("success") is not True:
+            return
+
+        files = self._referenced_files(response)
+        mtimes = self._snapshot(files)
+        if not files or mtimes is None:
+            return
+        if started_ns is not None and any(
+            mtime >= started_ns - MTIME_MARGIN_NS for mtime in mtimes.values()
+        ):
+            return
+
+        with self._lock:
+            if generation is not None and generation != self.generation:
+                return
+            self._entries[key] = (time.monotonic(), mtimes, copy.deepcopy(response))
+            self._entries.move_to_end(key)
+            while len(self._entries) > self.max_entries:
+                self._entries.popitem(last=False)
+                self.evictions += 1
+
+    def invalidate_all(self) -> None:
+        """Drop every cached response."""
+        with self._lock:
+            self._entries.clear()
+            self.generation += 1
+
+    def stats(self) -> Dict[str, Any]:
+        """Return hit/miss counters and the current hit ratio."""
+        with self._lock:
+            lookups = self.hits + self.misses
+            return {
+                "entries": len(self._entries),
+                "max_entries": self.max_entries,
+                "ttl_seconds": self.ttl,
+                "hits": self.hits,
+                "misses": self.misses,
+                "stale": self.stale,
+                "evictions": self.evictions,
+                "hit_ratio": round(self.hits / lookups, 4) if lookups else 0.0,
+            }
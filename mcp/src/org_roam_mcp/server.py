@@ -2,12 +2,14 @@
 
 import asyncio
 import logging
+import os
 from typing import Any, Dict, List, Optional
 
 from mcp.server import Server
 from mcp.server.models import InitializationOptions
 from mcp.types import ServerCapabilities
 from starlette.applications import Starlette
+from starlette.concurrency import run_in_threadpool
 from starlette.routing import Route, Mount
 from starlette.middleware.cors import CORSMiddleware
 from starlette.responses import JSONResponse, Response
@@ -23,7 +25,13 @@ from mcp.types import (
     Tool,
 )
 
-from .emacs_client import EmacsClient, EmacsClientError
+from .emacs_client import (
+    EmacsBatchResultError,
+    EmacsClient,
+    EmacsClientError,
+    EmacsLispError,
+    EmacsUnavailableError,
+)
 from . import __version__
 
 # Configure logging
@@ -631,9 +639,8 @@ async def list_tools() -> ListToolsResult:
     return ListToolsResult(tools=tools)
 
 
-@app.call_tool()
-async def call_tool(name: str, arguments: dict) -> CallToolResult:
-    """Handle tool calls."""
+def _call_tool(name: str, arguments: dict) -> CallToolResult:
+    """Handle a tool call, blocking until Emacs answers."""
     try:
         tool_name = name
         arguments = arguments or {}
@@ -1267,6 +1274,13 @@ async def call_tool(name: str, arguments: dict) -> CallToolResult:
         )
 
 
+@app.call_tool()
+async def call_tool(name: str, arguments: dict) -> CallToolResult:
+    """Handle tool calls."""
+    # Emacs calls block, so run them off the event loop shared with the HTTP endpoint
+    return await run_in_threadpool(_call_tool, name, arguments)
+
+
 def _sanitize_control_chars(text: str) -> str:
     """Remove or escape control characters from a string for JSON safety."""
     if not isinstance(text, str):
@@ -1477,641 +1491,776 @@ def _format_basic_search_results(result: Dict[str, Any]) -> str:
     return response
 
 
+def _json_rpc_response(response_data: Any) -> Response:
+    """Serialize a JSON-RPC response (object or batch array) as UTF-8 JSON."""
+    return Response(
+        content=json.dumps(response_data, ensure_ascii=False),
+        media_type="application/json",
+        headers={"Content-Type": "application/json; charset=utf-8"}
+    )
+
+
+def _emacs_unavailable_error(request_id: Any, error: EmacsUnavailableError) -> Dict[str, Any]:
+    """Build the JSON-RPC error returned while the Emacs circuit breaker is open."""
+    return {
+        "jsonrpc": "2.0",
+        "id": request_id,
+        "error": {
+            "code": -32000,
+            "message": f"Emacs unavailable: {str(error)}"
+        }
+    }
+
+
+# Read-only tools that evaluate exactly one elisp expression. Within a JSON-RPC
+# batch these are combined into one Emacs evaluation. Each builder must
+# produce the same expression the tool's handler evaluates; if they ever drift
+# apart the prefetched result is simply not used and the call runs on its own.
+BATCHABLE_TOOL_EXPRESSIONS = {
+    "contextual_search": lambda client, args: client.contextual_search_expression(
+        args.get("query"), args.get("limit", 10)),
+    "semantic_search": lambda client, args: client.semantic_search_expression(
+        args.get("query"), args.get("limit", 10), args.get("cutoff", 0.55)),
+    "search_notes": lambda client, args: client.search_notes_expression(args.get("query")),
+    "read_note": lambda client, args: client.read_note_expression(
+        args.get("identifier"), args.get("section")),
+    "list_notes": lambda client, args: client.list_notes_expression(
+        args.get("node_type"), args.get("status"), args.get("limit", 50),
+        args.get("sort_by", "modified")),
+    "get_note_properties": lambda client, args: client.get_note_properties_expression(
+        args.get("identifier")),
+}
+
+# Most calls combined into one elisp evaluation, so that a large batch does not
+# become a single call that runs into the client timeout
+BATCH_CHUNK_SIZE = max(1, int(os.environ.get("MCP_BATCH_CHUNK_SIZE", "20")))
+
+
 async def health_check(request):
     """Health check endpoint."""
     return Response("OK", status_code=200)
 
 def create_starlette_app():
     """Create Starlette app with MCP HTTP endpoint."""
-    
-    # Create Emacs client instance
-    emacs_client = EmacsClient()
-    
-    async def handle_mcp_request(request: Request):
-        """Handle MCP JSON-RPC requests via HTTP POST."""
-        try:
-            # Parse JSON-RPC request
-            body = await request.body()
-            rpc_request = json.loads(body)
+
+    # Uses the module-level emacs_client, so the HTTP endpoint and the stdio/SSE
+    # tools share one response cache and circuit breaker
+
+    def dispatch_rpc(rpc_request: Dict[str, Any]) -> Optional[Dict[str, Any]]:
+        """Handle a single JSON-RPC request object.
+
+        Returns:
+            The JSON-RPC response object, or None for notifications
+        """
+        # Handle different MCP request types
+        if rpc_request.get("method") == "tools/list":
+            # Return list of available tools from shared schema
+            return {
+                "jsonrpc": "2.0",
+                "id": rpc_request.get("id"),
+                "result": {
+                    "tools": TOOL_SCHEMAS
+                }
+            }
+        
+        elif rpc_request.get("method") == "tools/call":
+            # Handle tool execution
+            params = rpc_request.get("params", {})
+            tool_name = params.get("name")
+            arguments = params.get("arguments", {})
             
-            # Handle different MCP request types
-            if rpc_request.get("method") == "tools/list":
-                # Return list of available tools from shared schema
-                return JSONResponse({
+            if tool_name == "search_notes":
+                result = emacs_client.search_notes(arguments.get("query"))
+
+                # Format result like MCP tools do
+                formatted_text = f"Search results for '{arguments.get('query')}':\n\n" + _format_basic_search_results(result)
+
+                response_data = {
                     "jsonrpc": "2.0",
                     "id": rpc_request.get("id"),
                     "result": {
-                        "tools": TOOL_SCHEMAS
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
                     }
-                })
+                }
+
+                return response_data
+            elif tool_name == "contextual_search":
+                result = emacs_client.contextual_search(
+                    arguments.get("query"),
+                    arguments.get("limit", 10)
+                )
+                result = _sanitize_result(result)  # Sanitize control characters
+
+                # Debug: log the result
+                logger.info(f"Contextual search result type: {type(result)}")
+
+                # Format result like MCP tools do
+                formatted_text = f"Contextual search results for '{arguments.get('query')}':\n\n" + _format_contextual_search_results(result)
+
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
+                    }
+                }
+
+                return response_data
             
-            elif rpc_request.get("method") == "tools/call":
-                # Handle tool execution
-                params = rpc_request.get("params", {})
-                tool_name = params.get("name")
-                arguments = params.get("arguments", {})
-                
-                if tool_name == "search_notes":
-                    result = emacs_client.search_notes(arguments.get("query"))
+            elif tool_name == "read_note":
+                result = emacs_client.read_note(
+                    arguments.get("identifier"),
+                    arguments.get("section")
+                )
+                result = _sanitize_result(result)
 
-                    # Format result like MCP tools do
-                    formatted_text = f"Search results for '{arguments.get('query')}':\n\n" + _format_basic_search_results(result)
+                if result.get("success"):
+                    title = result.get("title", "Unknown")
+                    file_path = result.get("file", "")
+                    note_content = result.get("content", "")
+                    
+                    if len(note_content) > 50000:
+                        note_content = note_content[:50000] + "\n\n... [truncated]"
+                    
+                    formatted_text = f"**{title}**\nFile: {file_path}\n\n{note_content}"
+                else:
+                    formatted_text = f"Error: {result.get('error', 'Unknown error')}"
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
                     }
+                }
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-                elif tool_name == "contextual_search":
-                    result = emacs_client.contextual_search(
-                        arguments.get("query"),
-                        arguments.get("limit", 10)
-                    )
-                    result = _sanitize_result(result)  # Sanitize control characters
+                return response_data
 
-                    # Debug: log the result
-                    logger.info(f"Contextual search result type: {type(result)}")
 
-                    # Format result like MCP tools do
-                    formatted_text = f"Contextual search results for '{arguments.get('query')}':\n\n" + _format_contextual_search_results(result)
+            elif tool_name == "update_note":
+                result = emacs_client.update_note(
+                    arguments.get("identifier"),
+                    arguments.get("content"),
+                    arguments.get("section"),
+                    arguments.get("mode", "append")
+                )
+                result = _sanitize_result(result)
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
+                if result.get("success"):
+                    file_path = result.get("file", "")
+                    mode = arguments.get("mode", "append")
+                    section = arguments.get("section")
+                    section_desc = section if section else "(whole file)"
+                    formatted_text = f"Note updated successfully.\nFile: {file_path}\nMode: {mode}\nSection: {section_desc}"
+                else:
+                    formatted_text = f"Error: {result.get('error', 'Unknown error')}"
+
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
                     }
+                }
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-                
-                elif tool_name == "read_note":
-                    result = emacs_client.read_note(
-                        arguments.get("identifier"),
-                        arguments.get("section")
-                    )
-                    result = _sanitize_result(result)
-
-                    if result.get("success"):
-                        title = result.get("title", "Unknown")
-                        file_path = result.get("file", "")
-                        note_content = result.get("content", "")
-                        
-                        if len(note_content) > 50000:
-                            note_content = note_content[:50000] + "\n\n... [truncated]"
-                        
-                        formatted_text = f"**{title}**\nFile: {file_path}\n\n{note_content}"
-                    else:
-                        formatted_text = f"Error: {result.get('error', 'Unknown error')}"
+                return response_data
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
-                    }
+            elif tool_name == "list_notes":
+                result = emacs_client.list_notes(
+                    arguments.get("node_type"),
+                    arguments.get("status"),
+                    arguments.get("limit", 50),
+                    arguments.get("sort_by", "modified")
+                )
+                result = _sanitize_result(result)
+
+                if result.get("success"):
+                    notes = result.get("notes", [])
+                    total = result.get("total_found", 0)
+                    lines = [f"Found {total} notes (showing {len(notes)}):"]
+                    for note in notes:
+                        status_str = f" [{note.get('status', '')}]" if note.get('status') else ""
+                        type_str = f" ({note.get('node_type', '')})" if note.get('node_type') else ""
+                        lines.append(f"- **{note.get('title', 'Untitled')}**{type_str}{status_str}")
+                        lines.append(f"  ID: {note.get('id', 'N/A')} | Modified: {note.get('modified', 'N/A')}")
+                    formatted_text = "\n".join(lines)
+                else:
+                    formatted_text = f"Error: {result.get('error', 'Unknown error')}"
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
+                    }
+                }
 
+                return response_data
+            elif tool_name == "semantic_search":
+                result = emacs_client.semantic_search(
+                    arguments.get("query"),
+                    arguments.get("limit", 10),
+                    arguments.get("cutoff", 0.55)
+                )
+                result = _sanitize_result(result)  # Sanitize control characters
 
-                elif tool_name == "update_note":
-                    result = emacs_client.update_note(
-                        arguments.get("identifier"),
-                        arguments.get("content"),
-                        arguments.get("section"),
-                        arguments.get("mode", "append")
-                    )
-                    result = _sanitize_result(result)
-
-                    if result.get("success"):
-                        file_path = result.get("file", "")
-                        mode = arguments.get("mode", "append")
-                        section = arguments.get("section")
-                        section_desc = section if section else "(whole file)"
-                        formatted_text = f"Note updated successfully.\nFile: {file_path}\nMode: {mode}\nSection: {section_desc}"
-                    else:
-                        formatted_text = f"Error: {result.get('error', 'Unknown error')}"
+                # Format result like MCP tools do
+                formatted_text = f"Semantic search results for '{arguments.get('query')}':\n\n" + _format_semantic_search_results(result)
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [
+                            {
+                                "type": "text",
+                                "text": formatted_text
+                            }
+                        ]
                     }
+                }
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-
-                elif tool_name == "list_notes":
-                    result = emacs_client.list_notes(
-                        arguments.get("node_type"),
-                        arguments.get("status"),
-                        arguments.get("limit", 50),
-                        arguments.get("sort_by", "modified")
-                    )
-                    result = _sanitize_result(result)
-
-                    if result.get("success"):
-                        notes = result.get("notes", [])
-                        total = result.get("total_found", 0)
-                        lines = [f"Found {total} notes (showing {len(notes)}):"]
-                        for note in notes:
-                            status_str = f" [{note.get('status', '')}]" if note.get('status') else ""
-                            type_str = f" ({note.get('node_type', '')})" if note.get('node_type') else ""
-                            lines.append(f"- **{note.get('title', 'Untitled')}**{type_str}{status_str}")
-                            lines.append(f"  ID: {note.get('id', 'N/A')} | Modified: {note.get('modified', 'N/A')}")
-                        formatted_text = "\n".join(lines)
+                return response_data
+            elif tool_name == "create_note":
+                title = arguments.get("title")
+                content = arguments.get("content")
+                note_type = arguments.get("type", "reference")
+                confidence = arguments.get("confidence", "medium")
+                url = arguments.get("url")
+                metadata = arguments.get("metadata", {})
+
+                result = emacs_client.create_note(title, content, note_type, confidence, url, metadata)
+
+                if result.get("success"):
+                    note_info = result.get("note", {})
+                    if note_type == "video":
+                        response = f"🎥 Video note created successfully: '{title}'\n"
+                        response += f"ID: {note_info.get('id', 'N/A')}\n"
+                        response += f"File: {note_info.get('file', 'N/A')}\n"
+                        if url:
+                            response += f"URL: {url}"
                     else:
-                        formatted_text = f"Error: {result.get('error', 'Unknown error')}"
+                        response = f"✅ Note created successfully: '{title}'\n"
+                        response += f"ID: {note_info.get('id', 'N/A')}\n"
+                        response += f"File: {note_info.get('file', 'N/A')}\n"
+                        response += f"Type: {note_type}, Confidence: {confidence}"
+                else:
+                    response = f"❌ Failed to create note: {result.get('message', 'Unknown error')}"
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}]
                     }
+                }
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-                elif tool_name == "semantic_search":
-                    result = emacs_client.semantic_search(
-                        arguments.get("query"),
-                        arguments.get("limit", 10),
-                        arguments.get("cutoff", 0.55)
-                    )
-                    result = _sanitize_result(result)  # Sanitize control characters
+            elif tool_name == "get_note_properties":
+                result = emacs_client.get_note_properties(arguments.get("identifier"))
+                return {"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result}
+
+            elif tool_name == "delete_note":
+                result = emacs_client.delete_note(arguments.get("identifier"), arguments.get("archive", False))
+                return {"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result}
+
+            elif tool_name == "rename_note":
+                result = emacs_client.rename_note(arguments.get("identifier"), arguments.get("new_title"))
+                return {"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result}
+
+            elif tool_name == "manage_tags":
+                result = emacs_client.manage_tags(arguments.get("identifier"), arguments.get("action"), arguments.get("tag"))
+                return {"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result}
+
+            elif tool_name == "add_link":
+                result = emacs_client.add_link(arguments.get("from_id"), arguments.get("to_id"), arguments.get("section"))
+                return {"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result}
+            elif tool_name == "add_daily_entry":
+                timestamp = arguments.get("timestamp")
+                title = arguments.get("title")
+                points = arguments.get("points", [])
+                next_steps = arguments.get("next_steps", [])
+                tags = arguments.get("tags", [])
+                entry_type = arguments.get("entry_type", "journal")
+                
+                result = emacs_client.add_daily_entry(
+                    timestamp, title, points, next_steps, tags, entry_type
+                )
+                
+                if result.get("success"):
+                    # Return the exact response format the agent expects to see
+                    entry_label = "TODO" if entry_type == "todo" else "JOURNAL"
+                    response = f"✅ **{entry_label}** added to daily note: {title}"
+                else:
+                    response = f"❌ Failed to add daily entry: {result.get('error', 'Unknown error')}"
+                
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}]
+                    }
+                }
+            elif tool_name == "get_daily_content":
+                result = emacs_client.get_daily_content(
+                    arguments.get("date")
+                )
 
-                    # Format result like MCP tools do
-                    formatted_text = f"Semantic search results for '{arguments.get('query')}':\n\n" + _format_semantic_search_results(result)
+                # Result is a dict - ensure proper JSON encoding
+                response_data = {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [
-                                {
-                                    "type": "text",
-                                    "text": formatted_text
-                                }
-                            ]
-                        }
+                return response_data
+            elif tool_name == "generate_embeddings":
+                force = arguments.get("force", False)
+                result = emacs_client.generate_embeddings(force)
+
+                if result.get("success"):
+                    count = result.get("count", 0)
+                    response = f"✅ Generated {count} embeddings for org-roam notes"
+                    if count == 0:
+                        response += "\n(All notes already have current embeddings)"
+                else:
+                    response = f"❌ Failed to generate embeddings: {result.get('error', 'Unknown error')}"
+
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}]
                     }
+                }
+            elif tool_name == "generate_note_embedding":
+                file_path = arguments.get("file_path")
+                result = emacs_client.generate_note_embedding(file_path)
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-                elif tool_name == "create_note":
-                    title = arguments.get("title")
-                    content = arguments.get("content")
-                    note_type = arguments.get("type", "reference")
-                    confidence = arguments.get("confidence", "medium")
-                    url = arguments.get("url")
-                    metadata = arguments.get("metadata", {})
-
-                    result = emacs_client.create_note(title, content, note_type, confidence, url, metadata)
-
-                    if result.get("success"):
-                        note_info = result.get("note", {})
-                        if note_type == "video":
-                            response = f"🎥 Video note created successfully: '{title}'\n"
-                            response += f"ID: {note_info.get('id', 'N/A')}\n"
-                            response += f"File: {note_info.get('file', 'N/A')}\n"
-                            if url:
-                                response += f"URL: {url}"
-                        else:
-                            response = f"✅ Note created successfully: '{title}'\n"
-                            response += f"ID: {note_info.get('id', 'N/A')}\n"
-                            response += f"File: {note_info.get('file', 'N/A')}\n"
-                            response += f"Type: {note_type}, Confidence: {confidence}"
-                    else:
-                        response = f"❌ Failed to create note: {result.get('message', 'Unknown error')}"
+                if result.get("success"):
+                    response = f"\u2705 {result.get('message', 'Embedding generated')}"
+                else:
+                    response = f"\u274c Failed to generate embedding: {result.get('error', 'Unknown error')}"
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}]
-                        }
-                    })
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}]
+                    }
+                }
+            elif tool_name == "add_inbox_entry":
+                command = arguments.get("command")
+                original_text = arguments.get("original_text")
+                linked_note_id = arguments.get("linked_note_id")
+                linked_note_title = arguments.get("linked_note_title")
+
+                result = emacs_client.add_inbox_entry(
+                    command, original_text, linked_note_id, linked_note_title
+                )
 
-                elif tool_name == "get_note_properties":
-                    result = emacs_client.get_note_properties(arguments.get("identifier"))
-                    return JSONResponse({"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result})
-
-                elif tool_name == "delete_note":
-                    result = emacs_client.delete_note(arguments.get("identifier"), arguments.get("archive", False))
-                    return JSONResponse({"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result})
-
-                elif tool_name == "rename_note":
-                    result = emacs_client.rename_note(arguments.get("identifier"), arguments.get("new_title"))
-                    return JSONResponse({"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result})
-
-                elif tool_name == "manage_tags":
-                    result = emacs_client.manage_tags(arguments.get("identifier"), arguments.get("action"), arguments.get("tag"))
-                    return JSONResponse({"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result})
-
-                elif tool_name == "add_link":
-                    result = emacs_client.add_link(arguments.get("from_id"), arguments.get("to_id"), arguments.get("section"))
-                    return JSONResponse({"jsonrpc": "2.0", "id": rpc_request.get("id"), "result": result})
-                elif tool_name == "add_daily_entry":
-                    timestamp = arguments.get("timestamp")
-                    title = arguments.get("title")
-                    points = arguments.get("points", [])
-                    next_steps = arguments.get("next_steps", [])
-                    tags = arguments.get("tags", [])
-                    entry_type = arguments.get("entry_type", "journal")
-                    
-                    result = emacs_client.add_daily_entry(
-                        timestamp, title, points, next_steps, tags, entry_type
-                    )
-                    
-                    if result.get("success"):
-                        # Return the exact response format the agent expects to see
-                        entry_label = "TODO" if entry_type == "todo" else "JOURNAL"
-                        response = f"✅ **{entry_label}** added to daily note: {title}"
-                    else:
-                        response = f"❌ Failed to add daily entry: {result.get('error', 'Unknown error')}"
-                    
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}]
-                        }
-                    })
-                elif tool_name == "get_daily_content":
-                    result = emacs_client.get_daily_content(
-                        arguments.get("date")
-                    )
+                if result.get("success"):
+                    response = f"✅ Inbox entry added for /{command}"
+                else:
+                    response = f"❌ Failed to add inbox entry: {result.get('error', 'Unknown error')}"
 
-                    # Result is a dict - ensure proper JSON encoding
-                    response_data = {
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}]
                     }
+                }
 
-                    json_content = json.dumps(response_data, ensure_ascii=False)
-                    return Response(
-                        content=json_content,
-                        media_type="application/json",
-                        headers={"Content-Type": "application/json; charset=utf-8"}
-                    )
-                elif tool_name == "generate_embeddings":
-                    force = arguments.get("force", False)
-                    result = emacs_client.generate_embeddings(force)
-
-                    if result.get("success"):
-                        count = result.get("count", 0)
-                        response = f"✅ Generated {count} embeddings for org-roam notes"
-                        if count == 0:
-                            response += "\n(All notes already have current embeddings)"
-                    else:
-                        response = f"❌ Failed to generate embeddings: {result.get('error', 'Unknown error')}"
+            # Phase 2: Structured Node Types
+            elif tool_name == "create_person":
+                name = arguments.get("name")
+                context = arguments.get("context")
+                follow_ups = arguments.get("follow_ups", [])
+                notes = arguments.get("notes")
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}]
-                        }
-                    })
-                elif tool_name == "generate_note_embedding":
-                    file_path = arguments.get("file_path")
-                    result = emacs_client.generate_note_embedding(file_path)
+                result = emacs_client.create_person(name, context, follow_ups, notes)
 
-                    if result.get("success"):
-                        response = f"\u2705 {result.get('message', 'Embedding generated')}"
-                    else:
-                        response = f"\u274c Failed to generate embedding: {result.get('error', 'Unknown error')}"
+                if result.get("success"):
+                    note_info = result.get("note", {})
+                    response = f"👤 Person note created: '{name}'\n"
+                    response += f"ID: {note_info.get('id', 'N/A')}\n"
+                    response += f"File: {note_info.get('file', 'N/A')}"
+                else:
+                    response = f"❌ Failed to create person: {result.get('error', 'Unknown error')}"
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}]
-                        }
-                    })
-                elif tool_name == "add_inbox_entry":
-                    command = arguments.get("command")
-                    original_text = arguments.get("original_text")
-                    linked_note_id = arguments.get("linked_note_id")
-                    linked_note_title = arguments.get("linked_note_title")
-
-                    result = emacs_client.add_inbox_entry(
-                        command, original_text, linked_note_id, linked_note_title
-                    )
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}],
+                        "note": result.get("note", {})
+                    }
+                }
 
-                    if result.get("success"):
-                        response = f"✅ Inbox entry added for /{command}"
-                    else:
-                        response = f"❌ Failed to add inbox entry: {result.get('error', 'Unknown error')}"
+            elif tool_name == "create_project":
+                title = arguments.get("title")
+                status = arguments.get("status", "active")
+                next_action = arguments.get("next_action")
+                notes = arguments.get("notes")
+                content = arguments.get("content")
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}]
-                        }
-                    })
+                result = emacs_client.create_project(title, status, next_action, notes, content)
 
-                # Phase 2: Structured Node Types
-                elif tool_name == "create_person":
-                    name = arguments.get("name")
-                    context = arguments.get("context")
-                    follow_ups = arguments.get("follow_ups", [])
-                    notes = arguments.get("notes")
+                if result.get("success"):
+                    note_info = result.get("note", {})
+                    response = f"📋 Project note created: '{title}'\n"
+                    response += f"ID: {note_info.get('id', 'N/A')}\n"
+                    response += f"Status: {status}\n"
+                    response += f"File: {note_info.get('file', 'N/A')}"
+                else:
+                    response = f"❌ Failed to create project: {result.get('error', 'Unknown error')}"
 
-                    result = emacs_client.create_person(name, context, follow_ups, notes)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}],
+                        "note": result.get("note", {})
+                    }
+                }
 
-                    if result.get("success"):
-                        note_info = result.get("note", {})
-                        response = f"👤 Person note created: '{name}'\n"
-                        response += f"ID: {note_info.get('id', 'N/A')}\n"
-                        response += f"File: {note_info.get('file', 'N/A')}"
-                    else:
-                        response = f"❌ Failed to create person: {result.get('error', 'Unknown error')}"
+            elif tool_name == "create_idea":
+                title = arguments.get("title")
+                one_liner = arguments.get("one_liner")
+                elaboration = arguments.get("elaboration")
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}],
-                            "note": result.get("note", {})
-                        }
-                    })
+                result = emacs_client.create_idea(title, one_liner, elaboration)
 
-                elif tool_name == "create_project":
-                    title = arguments.get("title")
-                    status = arguments.get("status", "active")
-                    next_action = arguments.get("next_action")
-                    notes = arguments.get("notes")
-                    content = arguments.get("content")
+                if result.get("success"):
+                    note_info = result.get("note", {})
+                    response = f"💡 Idea note created: '{title}'\n"
+                    response += f"ID: {note_info.get('id', 'N/A')}\n"
+                    response += f"File: {note_info.get('file', 'N/A')}"
+                else:
+                    response = f"❌ Failed to create idea: {result.get('error', 'Unknown error')}"
 
-                    result = emacs_client.create_project(title, status, next_action, notes, content)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}],
+                        "note": result.get("note", {})
+                    }
+                }
 
-                    if result.get("success"):
-                        note_info = result.get("note", {})
-                        response = f"📋 Project note created: '{title}'\n"
-                        response += f"ID: {note_info.get('id', 'N/A')}\n"
-                        response += f"Status: {status}\n"
-                        response += f"File: {note_info.get('file', 'N/A')}"
-                    else:
-                        response = f"❌ Failed to create project: {result.get('error', 'Unknown error')}"
+            elif tool_name == "create_admin":
+                title = arguments.get("title")
+                due_date = arguments.get("due_date")
+                notes = arguments.get("notes")
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}],
-                            "note": result.get("note", {})
-                        }
-                    })
+                result = emacs_client.create_admin(title, due_date, notes)
 
-                elif tool_name == "create_idea":
-                    title = arguments.get("title")
-                    one_liner = arguments.get("one_liner")
-                    elaboration = arguments.get("elaboration")
+                if result.get("success"):
+                    note_info = result.get("note", {})
+                    response = f"📝 Admin task created: '{title}'\n"
+                    response += f"ID: {note_info.get('id', 'N/A')}\n"
+                    if due_date:
+                        response += f"Due: {due_date}\n"
+                    response += f"File: {note_info.get('file', 'N/A')}"
+                else:
+                    response = f"❌ Failed to create admin task: {result.get('error', 'Unknown error')}"
 
-                    result = emacs_client.create_idea(title, one_liner, elaboration)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": {
+                        "content": [{"type": "text", "text": response}],
+                        "note": result.get("note", {})
+                    }
+                }
 
-                    if result.get("success"):
-                        note_info = result.get("note", {})
-                        response = f"💡 Idea note created: '{title}'\n"
-                        response += f"ID: {note_info.get('id', 'N/A')}\n"
-                        response += f"File: {note_info.get('file', 'N/A')}"
-                    else:
-                        response = f"❌ Failed to create idea: {result.get('error', 'Unknown error')}"
+            # Phase 3: Proactive Surfacing
+            elif tool_name == "get_active_projects":
+                result = emacs_client.get_active_projects()
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}],
-                            "note": result.get("note", {})
-                        }
-                    })
+            elif tool_name == "get_pending_followups":
+                result = emacs_client.get_pending_followups()
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                elif tool_name == "create_admin":
-                    title = arguments.get("title")
-                    due_date = arguments.get("due_date")
-                    notes = arguments.get("notes")
+            elif tool_name == "get_stale_projects":
+                days_threshold = arguments.get("days_threshold", 5)
+                result = emacs_client.get_stale_projects(days_threshold)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                    result = emacs_client.create_admin(title, due_date, notes)
+            elif tool_name == "get_weekly_inbox":
+                days = arguments.get("days", 7)
+                result = emacs_client.get_weekly_inbox(days)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                    if result.get("success"):
-                        note_info = result.get("note", {})
-                        response = f"📝 Admin task created: '{title}'\n"
-                        response += f"ID: {note_info.get('id', 'N/A')}\n"
-                        if due_date:
-                            response += f"Due: {due_date}\n"
-                        response += f"File: {note_info.get('file', 'N/A')}"
-                    else:
-                        response = f"❌ Failed to create admin task: {result.get('error', 'Unknown error')}"
+            elif tool_name == "get_digest_data":
+                result = emacs_client.get_digest_data()
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": {
-                            "content": [{"type": "text", "text": response}],
-                            "note": result.get("note", {})
-                        }
-                    })
+            elif tool_name == "log_to_inbox":
+                text = arguments.get("text", "")
+                result = emacs_client.log_to_inbox(text)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                # Phase 3: Proactive Surfacing
-                elif tool_name == "get_active_projects":
-                    result = emacs_client.get_active_projects()
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+            elif tool_name == "get_dangling_followups":
+                result = emacs_client.get_dangling_followups()
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                elif tool_name == "get_pending_followups":
-                    result = emacs_client.get_pending_followups()
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+            elif tool_name == "update_note":
+                identifier = arguments.get("identifier")
+                content = arguments.get("content")
+                section = arguments.get("section")
+                mode = arguments.get("mode", "append")
+                result = emacs_client.update_note(identifier, content, section, mode)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                elif tool_name == "get_stale_projects":
-                    days_threshold = arguments.get("days_threshold", 5)
-                    result = emacs_client.get_stale_projects(days_threshold)
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+            elif tool_name == "list_notes":
+                node_type = arguments.get("node_type")
+                status = arguments.get("status")
+                limit = arguments.get("limit", 50)
+                sort_by = arguments.get("sort_by", "modified")
+                result = emacs_client.list_notes(node_type, status, limit, sort_by)
+                return {
+                    "jsonrpc": "2.0",
+                    "id": rpc_request.get("id"),
+                    "result": result
+                }
 
-                elif tool_name == "get_weekly_inbox":
-                    days = arguments.get("days", 7)
-                    result = emacs_client.get_weekly_inbox(days)
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+            return {
+                "jsonrpc": "2.0",
+                "id": rpc_request.get("id"),
+                "error": {
+                    "code": -32601,
+                    "message": f"Unknown tool: {tool_name}"
+                }
+            }
+        
+        # Handle initialize request
+        elif rpc_request.get("method") == "initialize":
+            return {
+                "jsonrpc": "2.0",
+                "id": rpc_request.get("id"),
+                "result": {
+                    "protocolVersion": "2025-03-26",
+                    "capabilities": {
+                        "tools": {}
+                    },
+                    "serverInfo": {
+                        "name": "org-roam-mcp",
+                        "version": __version__
+                    }
+                }
+            }
 
-                elif tool_name == "get_digest_data":
-                    result = emacs_client.get_digest_data()
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+        # Handle initialized notification (required by MCP spec)
+        elif rpc_request.get("method") == "notifications/initialized":
+            # Notifications don't carry a response
+            return None
 
-                elif tool_name == "log_to_inbox":
-                    text = arguments.get("text", "")
-                    result = emacs_client.log_to_inbox(text)
-                    return JSONResponse({
+        else:
+            return {
+                "jsonrpc": "2.0",
+                "id": rpc_request.get("id"),
+                "error": {
+                    "code": -32601,
+                    "message": f"Unknown method: {rpc_request.get('method')}"
+                }
+            }
+
+
+    def dispatch_batch(rpc_requests: List[Any]) -> List[Dict[str, Any]]:
+        """Handle a JSON-RPC 2.0 batch, returning responses in request order.
+
+        Read-only single-expression tool calls in the batch are evaluated
+        together, BATCH_CHUNK_SIZE per Emacs evaluation, before the batch is
+        dispatched.
+        Each request then runs through dispatch_rpc as usual, and a failure
+        in one request becomes that request's error response. Requests without
+        an "id" are notifications: they run, but get no response.
+        """
+        calls = []
+        for rpc_request in rpc_requests:
+            if not isinstance(rpc_request, dict) or rpc_request.get("method") != "tools/call":
+                continue
+            params = rpc_request.get("params", {})
+            # Malformed calls are left to dispatch_rpc, which reports them in their own slot
+            if (not isinstance(params, dict) or not isinstance(params.get("name"), str)
+                    or not isinstance(params.get("arguments", {}), dict)):
+                continue
+            build_expression = BATCHABLE_TOOL_EXPRESSIONS.get(params.get("name"))
+            if build_expression:
+                expression = build_expression(emacs_client, params.get("arguments", {}))
+                # Calls answered from the response cache need no evaluation
+                if not emacs_client.response_cache.contains(expression):
+                    calls.append(expression)
+
+        prefetched_calls: List[str] = []
+        results: List[Any] = []
+        # Lets writes from other requests during the batch invalidate its results
+        prefetch_stamp = emacs_client.prefetch_stamp()
+        if len(calls) > 1:
+            for start in range(0, len(calls), BATCH_CHUNK_SIZE):
+                chunk = calls[start:start + BATCH_CHUNK_SIZE]
+                try:
+                    results.extend(emacs_client.eval_elisp_batch(chunk))
+                    prefetched_calls.extend(chunk)
+                    logger.info(f"Evaluated {len(chunk)} batched tool calls in one Emacs evaluation")
+                except (EmacsBatchResultError, EmacsLispError) as e:
+                    # Emacs answered, and only read-only tools are combined, so
+                    # evaluating these calls separately is safe
+                    logger.warning(f"Combined batch evaluation failed, evaluating calls separately: {e}")
+                except EmacsClientError as e:
+                    # Emacs timed out or cannot be reached; retrying each call
+                    # would only wait again, so report the error for every
+                    # remaining call instead
+                    logger.warning(f"Combined batch evaluation failed, skipping remaining batched calls: {e}")
+                    remaining = calls[start:]
+                    results.extend([e] * len(remaining))
+                    prefetched_calls.extend(remaining)
+                    break
+
+        responses = []
+        with emacs_client.prefetched(prefetched_calls, results, prefetch_stamp):
+            for rpc_request in rpc_requests:
+                if not isinstance(rpc_request, dict):
+                    responses.append({
                         "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
+                        "id": None,
+                        "error": {
+                            "code": -32600,
+                            "message": "Invalid Request"
+                        }
                     })
-
-                elif tool_name == "get_dangling_followups":
-                    result = emacs_client.get_dangling_followups()
-                    return JSONResponse({
+                    continue
+                try:
+                    response_data = dispatch_rpc(rpc_request)
+                except EmacsUnavailableError as e:
+                    response_data = _emacs_unavailable_error(rpc_request.get("id"), e)
+                except Exception as e:
+                    logger.error(f"Error handling batched MCP request: {e}")
+                    response_data = {
                         "jsonrpc": "2.0",
                         "id": rpc_request.get("id"),
-                        "result": result
-                    })
+                        "error": {
+                            "code": -32603,
+                            "message": f"Internal error: {str(e)}"
+                        }
+                    }
+                # Requests without an id are notifications and get no response
+                if response_data is not None and "id" in rpc_request:
+                    responses.append(response_data)
+        return responses
 
-                elif tool_name == "update_note":
-                    identifier = arguments.get("identifier")
-                    content = arguments.get("content")
-                    section = arguments.get("section")
-                    mode = arguments.get("mode", "append")
-                    result = emacs_client.update_note(identifier, content, section, mode)
-                    return JSONResponse({
-                        "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
+    async def handle_mcp_request(request: Request):
+        """Handle MCP JSON-RPC requests (single or batch) via HTTP POST."""
+        rpc_request: Any = None
+        try:
+            # Parse JSON-RPC request
+            body = await request.body()
+            rpc_request = json.loads(body)
 
-                elif tool_name == "list_notes":
-                    node_type = arguments.get("node_type")
-                    status = arguments.get("status")
-                    limit = arguments.get("limit", 50)
-                    sort_by = arguments.get("sort_by", "modified")
-                    result = emacs_client.list_notes(node_type, status, limit, sort_by)
-                    return JSONResponse({
+            if isinstance(rpc_request, list):
+                if not rpc_request:
+                    return _json_rpc_response({
                         "jsonrpc": "2.0",
-                        "id": rpc_request.get("id"),
-                        "result": result
-                    })
-
-                return JSONResponse({
-                    "jsonrpc": "2.0",
-                    "id": rpc_request.get("id"),
-                    "error": {
-                        "code": -32601,
-                        "message": f"Unknown tool: {tool_name}"
-                    }
-                })
-            
-            # Handle initialize request
-            elif rpc_request.get("method") == "initialize":
-                return JSONResponse({
-                    "jsonrpc": "2.0",
-                    "id": rpc_request.get("id"),
-                    "result": {
-                        "protocolVersion": "2025-03-26",
-                        "capabilities": {
-                            "tools": {}
-                        },
-                        "serverInfo": {
-                            "name": "org-roam-mcp",
-                            "version": __version__
+                        "id": None,
+                        "error": {
+                            "code": -32600,
+                            "message": "Invalid Request: empty batch"
                         }
-                    }
-                })
+                    })
+                # Emacs calls block, so run them off the event loop. Other requests
+                # take turns with the batch for each call into Emacs.
+                response_data = await run_in_threadpool(dispatch_batch, rpc_request) or None
+            else:
+                response_data = await run_in_threadpool(dispatch_rpc, rpc_request)
 
-            # Handle initialized notification (required by MCP spec)
-            elif rpc_request.get("method") == "notifications/initialized":
+            if response_data is None:
                 # Notifications don't require a response body, but should return 200
                 return Response(content="", status_code=200, media_type="application/json")
+            return _json_rpc_response(response_data)
 
-            else:
-                return JSONResponse({
-                    "jsonrpc": "2.0",
-                    "id": rpc_request.get("id"),
-                    "error": {
-                        "code": -32601,
-                        "message": f"Unknown method: {rpc_request.get('method')}"
-                    }
-                })
-        
+        except EmacsUnavailableError as e:
+            logger.warning(f"Rejected MCP request while Emacs is unavailable: {e}")
+            return JSONResponse(
+                _emacs_unavailable_error(rpc_request.get("id") if isinstance(rpc_request, dict) else None, e),
+                status_code=503
+            )
         except Exception as e:
             logger.error(f"Error handling MCP request: {e}")
             return JSONResponse({
                 "jsonrpc": "2.0",
-                "id": rpc_request.get("id") if "rpc_request" in locals() else None,
+                "id": rpc_request.get("id") if isinstance(rpc_request, dict) else None,
                 "error": {
                     "code": -32603,
                     "message": f"Internal error: {str(e)}"
                 }
             }, status_code=500)
 
+    async def handle_stats(request: Request):
+        """Report response cache and Emacs circuit breaker statistics."""
+        return JSONResponse({
+            "response_cache": emacs_client.response_cache.stats(),
+            "emacs_circuit": emacs_client.circuit_breaker.stats()
+        })
+
     # Create SSE transport for MCP clients like Agent Zero
     # The endpoint "/mcp" is where clients will POST messages after connecting via SSE
     sse_transport = SseServerTransport("/mcp")
@@ -2139,6 +2288,7 @@ def create_starlette_app():
             # Existing JSON-RPC endpoints for n8n
             Route("/", health_check, methods=["GET"]),
             Route("/", handle_mcp_request, methods=["POST"]),
+            Route("/stats", handle_stats, methods=["GET"]),
             # SSE endpoints for MCP clients like Agent Zero
             Route("/sse", endpoint=handle_sse, methods=["GET"]),
             Mount("/mcp", app=sse_transport.handle_post_message),
@@ -2184,6 +2334,7 @@ async def main():
         logger.info("Available endpoints:")
         logger.info("  GET  / - Health check")
         logger.info("  POST / - MCP JSON-RPC endpoint for n8n")
+        logger.info("  GET  /stats - Response cache and Emacs circuit breaker statistics")
         logger.info("  GET  /sse - SSE endpoint for MCP clients (Agent Zero)")
         logger.info("  POST /mcp - SSE message endpoint for MCP clients")
 
@@ -8,7 +8,9 @@ from org_roam_mcp.emacs_client import EmacsClient, EmacsClientError
 @pytest.fixture
 def client():
     """Create EmacsClient instance for testing."""
-    return EmacsClient("/test/server/file")
+    client = EmacsClient("/test/server/file")
+    client.use_socket = False  # Exercise the emacsclient command path
+    return client
 
 
 class TestEmacsClient:
@@ -242,4 +244,204 @@ Content here"}]}'''
         
         result = client.sync_database()
         
-        assert result["success"] is True
\ No newline at end of file
+        assert result["success"] is True
+
+    @patch.object(EmacsClient, '_run_elisp')
+    def test_change_task_state(self, mock_run, client):
+        """Test changing a task state evaluates the elisp helper."""
+        mock_run.return_value = '"DONE"'
+
+        result = client.change_task_state("/notes/a.org", "Task", "DONE")
+
+        mock_run.assert_called_once_with('(my/org-roam-change-task-state "/notes/a.org" "Task" "DONE")')
+        assert result == {"success": True, "message": '"DONE"'}
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_eval_elisp_batch(self, mock_execute, client):
+        """Test evaluating several expressions in one emacsclient call."""
+        import json
+        # emacsclient prints the combined JSON array as an elisp string
+        mock_execute.return_value = json.dumps(json.dumps([
+            json.dumps({"success": True, "id": "a"}),
+            json.dumps({"success": False, "error": "Node not found"}),
+        ]))
+
+        results = client.eval_elisp_batch([
+            client.get_note_properties_expression("a"),
+            client.get_note_properties_expression("b"),
+        ])
+
+        mock_execute.assert_called_once()
+        call_args = mock_execute.call_args[0][0]
+        assert '(json-encode (vector (condition-case err' in call_args
+        assert results == [
+            {"success": True, "id": "a"},
+            {"success": False, "error": "Node not found"},
+        ]
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_eval_elisp_batch_wrong_length(self, mock_execute, client):
+        """Test batch evaluation rejects a result count mismatch."""
+        import json
+        from org_roam_mcp.emacs_client import EmacsBatchResultError
+        mock_execute.return_value = json.dumps(json.dumps([json.dumps({"success": True})]))
+
+        with pytest.raises(EmacsBatchResultError):
+            client.eval_elisp_batch(['(my/api-read-note "a")', '(my/api-read-note "b")'])
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_prefetched_results(self, mock_execute, client):
+        """Test eval_elisp serves prefetched results before calling emacsclient."""
+        expression = client.read_note_expression("a")
+        prefetched = [{"success": True, "title": "A"}, EmacsClientError("boom")]
+
+        with client.prefetched([expression, expression], prefetched):
+            assert client.read_note("a") == {"success": True, "title": "A"}
+            with pytest.raises(EmacsClientError):
+                client.read_note("a")
+            mock_execute.assert_not_called()
+
+            # Used-up expressions fall back to a normal evaluation
+            mock_execute.return_value = '{"success": true}'
+            assert client.read_note("a") == {"success": True}
+            mock_execute.assert_called_once()
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_prefetched_results_dropped_after_write(self, mock_execute, client):
+        """Test a read after a write in the same batch is not served from before the write."""
+        expression = client.read_note_expression("a")
+        prefetched = [{"success": True, "content": "old"}, {"success": True, "content": "old"}]
+
+        with client.prefetched([expression, expression], prefetched):
+            assert client.read_note("a")["content"] == "old"
+
+            mock_execute.return_value = '{"success": true}'
+            client.update_note("a", "new")
+
+            mock_execute.return_value = '{"success": true, "content": "new"}'
+            assert client.read_note("a")["content"] == "new"
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_prefetched_results_dropped_after_write_on_other_thread(self, mock_execute, client):
+        """Test a write from a concurrent request also discards prefetched results."""
+        import threading
+        expression = client.read_note_expression("a")
+
+        with client.prefetched([expression], [{"success": True, "content": "old"}]):
+            mock_execute.return_value = '{"success": true}'
+            writer = threading.Thread(target=client.update_note, args=("a", "new"))
+            writer.start()
+            writer.join(5)
+
+            mock_execute.return_value = '{"success": true, "content": "new"}'
+            assert client.read_note("a")["content"] == "new"
+
+    @patch.object(EmacsClient, 'eval_elisp')
+    def test_read_note_uses_response_cache(self, mock_eval, client, tmp_path):
+        """Test repeated reads are served from cache until a write happens."""
+        import os
+        note = tmp_path / "note.org"
+        note.write_text("* Note")
+        os.utime(note, (1_000_000_000, 1_000_000_000))
+        mock_eval.return_value = {"success": True, "file": str(note), "content": "* Note"}
+
+        client.read_note("abc")
+        client.read_note("abc")
+        assert mock_eval.call_count == 1
+
+        client.add_link("abc", "def")
+        client.read_note("abc")
+        assert mock_eval.call_count == 3
+
+    def test_concurrent_calls_take_turns(self, client):
+        """Test a waiting call runs before the next call of a long batch."""
+        import threading
+        import time
+        order = []
+        release_first = threading.Event()
+
+        def evaluate(expression):
+            order.append(expression)
+            if expression == '(batch-1)':
+                release_first.wait(5)
+            return 't'
+
+        def run_batch():
+            client._run_elisp('(batch-1)')
+            client._run_elisp('(batch-2)')
+
+        with patch.object(client, '_evaluate', side_effect=evaluate):
+            batch_thread = threading.Thread(target=run_batch)
+            batch_thread.start()
+            while not order:
+                time.sleep(0.01)
+
+            query_thread = threading.Thread(target=client._run_elisp, args=('(query)',))
+            query_thread.start()
+            while client._emacs_lock._next_ticket < 2:
+                time.sleep(0.01)
+
+            release_first.set()
+            batch_thread.join(5)
+            query_thread.join(5)
+
+        assert order == ['(batch-1)', '(query)', '(batch-2)']
+
+    def test_queued_call_gives_up_after_queue_timeout(self, client):
+        """Test a call waiting behind a slow call fails fast and does not block later calls."""
+        import threading
+        from org_roam_mcp.emacs_client import EmacsUnavailableError
+        client.queue_timeout = 0.05
+        started = threading.Event()
+        release = threading.Event()
+
+        def evaluate(expression):
+            if expression == '(slow)':
+                started.set()
+                release.wait(5)
+            return 't'
+
+        with patch.object(client, '_evaluate', side_effect=evaluate):
+            slow_thread = threading.Thread(target=client._run_elisp, args=('(slow)',))
+            slow_thread.start()
+            started.wait(5)
+
+            with pytest.raises(EmacsUnavailableError):
+                client._run_elisp('(query)')
+
+            release.set()
+            slow_thread.join(5)
+            assert client._run_elisp('(query)') == 't'
+
+    @patch.object(EmacsClient, '_execute_command')
+    def test_circuit_breaker_fails_fast(self, mock_execute, client):
+        """Test repeated timeouts suspend calls, while elisp errors do not."""
+        from org_roam_mcp.emacs_client import EmacsLispError, EmacsUnavailableError
+        mock_execute.side_effect = EmacsLispError("emacsclient failed with code 1: *ERROR*: void")
+        for _ in range(client.circuit_breaker.failure_threshold):
+            with pytest.raises(EmacsLispError):
+                client._run_elisp('(boom)')
+
+        mock_execute.side_effect = EmacsClientError("emacsclient timed out after 300 seconds")
+        for _ in range(client.circuit_breaker.failure_threshold):
+            with pytest.raises(EmacsClientError):
+                client._run_elisp('(+ 1 1)')
+        calls_before = mock_execute.call_count
+
+        with pytest.raises(EmacsUnavailableError):
+            client._run_elisp('(+ 1 1)')
+        assert mock_execute.call_count == calls_before
+
+    def test_circuit_breaker_trial_ends_on_unexpected_error(self, client):
+        """Test an unexpected exception during a half-open trial does not block later calls."""
+        client.circuit_breaker.reset_timeout = 0
+        for _ in range(client.circuit_breaker.failure_threshold):
+            client.circuit_breaker.record_failure()
+
+        with patch.object(client, '_evaluate', side_effect=UnicodeEncodeError("utf-8", "\ud800", 0, 1, "surrogate")):
+            with pytest.raises(UnicodeEncodeError):
+                client._run_elisp('(my/api-search-notes "\ud800")')
+
+        with patch.object(client, '_evaluate', return_value='t'):
+            assert client._run_elisp('(+ 1 1)') == 't'
+        assert client.circuit_breaker.state == "closed"
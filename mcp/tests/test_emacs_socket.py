@@ -0,0 +1,61 @@
+"""Tests for emacs_socket module."""
+
+import pytest
+from unittest.mock import Mock, patch
+from org_roam_mcp.emacs_socket import (
+    EmacsServerConnection,
+    EmacsServerError,
+    EmacsServerUnavailable,
+    quote_argument,
+    unquote_argument,
+)
+
+
+class TestEmacsSocket:
+    """Test Emacs server protocol helpers."""
+
+    def test_quote_argument(self):
+        """Test quoting matches server-quote-arg."""
+        assert quote_argument('(+ 1 1)') == '(+&_1&_1)'
+        assert quote_argument('-x & y\n') == '&-x&_&&&_y&n'
+
+    def test_unquote_round_trip(self):
+        """Test unquoting reverses quoting."""
+        expression = '(my/api-read-note "a - b & c"\n)'
+        assert unquote_argument(quote_argument(expression)) == expression
+
+    def test_parse_reply_joins_print_chunks(self):
+        """Test -print and -print-nonl chunks are joined into one value."""
+        connection = EmacsServerConnection("/test/server/file")
+        reply = '-emacs-pid 123\n-print "{\\"success\\":&_\n-print-nonl true}"\n'
+
+        assert connection._parse_reply(reply) == '"{\\"success\\": true}"'
+
+    def test_parse_reply_error(self):
+        """Test -error replies raise EmacsServerError."""
+        connection = EmacsServerConnection("/test/server/file")
+
+        with pytest.raises(EmacsServerError) as exc_info:
+            connection._parse_reply('-emacs-pid 123\n-error void-function&_boom\n')
+
+        assert 'void-function boom' in str(exc_info.value)
+
+    def test_malformed_server_file(self, tmp_path):
+        """Test an unreadable server file reports the server as unavailable."""
+        server_file = tmp_path / "server"
+        server_file.write_text("not-an-address\n")
+        connection = EmacsServerConnection(str(server_file))
+
+        with pytest.raises(EmacsServerUnavailable):
+            connection.eval('(+ 1 1)', timeout=1)
+
+    def test_eval_replaces_unencodable_characters(self):
+        """Test an expression with a lone surrogate is still sent instead of raising."""
+        connection = EmacsServerConnection("/test/server/file")
+        sock = Mock()
+        sock.recv.side_effect = [b'-emacs-pid 123\n-print t\n', b'']
+
+        with patch.object(connection, '_connect', return_value=(sock, None)):
+            assert connection.eval('(my/api-search-notes "\ud800")', timeout=1) == 't'
+
+        assert b'"?"' in sock.sendall.call_args[0][0]
@@ -0,0 +1,122 @@
+"""Tests for response_cache module."""
+
+import os
+import time
+
+from org_roam_mcp.response_cache import ResponseCache
+
+
+def _touch(path, mtime_ns):
+    os.utime(path, ns=(mtime_ns, mtime_ns))
+
+
+class TestResponseCache:
+    """Test ResponseCache functionality."""
+
+    def test_hit_while_file_unchanged(self, tmp_path):
+        """Test a cached response is returned while its note file is unchanged."""
+        note = tmp_path / "note.org"
+        note.write_text("* Note")
+        cache = ResponseCache()
+        cache.put("(read a)", {"success": True, "file": str(note), "content": "* Note"})
+
+        assert cache.get("(read a)") == {"success": True, "file": str(note), "content": "* Note"}
+        assert cache.stats()["hits"] == 1
+
+    def test_miss_after_file_modified(self, tmp_path):
+        """Test a changed mtime on any referenced file invalidates the entry."""
+        first = tmp_path / "a.org"
+        second = tmp_path / "b.org"
+        for path in (first, second):
+            path.write_text("x")
+            _touch(path, 1_000_000_000)
+        cache = ResponseCache()
+        cache.put("(search q)", {"success": True, "notes": [{"file": str(first)}, {"file": str(second)}]})
+
+        _touch(second, 2_000_000_000)
+
+        assert cache.get("(search q)") is None
+        assert cache.stats()["stale"] == 1
+
+    def test_ttl_expiry(self, tmp_path):
+        """Test entries older than the TTL are not served."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        cache = ResponseCache(ttl=0)
+        cache.put("(read a)", {"success": True, "file": str(note)})
+
+        assert cache.get("(read a)") is None
+
+    def test_failures_and_unknown_files_not_cached(self, tmp_path):
+        """Test only successful responses with checkable files are cached."""
+        cache = ResponseCache()
+        cache.put("(read a)", {"success": False, "error": "Note not found"})
+        cache.put("(read b)", {"success": True, "file": str(tmp_path / "missing.org")})
+        cache.put("(read c)", {"success": True})
+
+        assert cache.stats()["entries"] == 0
+
+    def test_lru_eviction(self, tmp_path):
+        """Test the least recently used entry is evicted at capacity."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        cache = ResponseCache(max_entries=2)
+        for key in ("a", "b"):
+            cache.put(key, {"success": True, "file": str(note)})
+        cache.get("a")
+        cache.put("c", {"success": True, "file": str(note)})
+
+        assert cache.get("b") is None
+        assert cache.get("a") is not None
+        assert cache.stats()["evictions"] == 1
+
+    def test_invalidate_all(self, tmp_path):
+        """Test invalidate_all drops every entry."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        cache = ResponseCache()
+        cache.put("a", {"success": True, "file": str(note)})
+
+        cache.invalidate_all()
+
+        assert cache.get("a") is None
+
+    def test_contains_does_not_count_lookup(self, tmp_path):
+        """Test contains reports validity without touching hit/miss counters."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        cache = ResponseCache()
+        cache.put("a", {"success": True, "file": str(note)})
+
+        assert cache.contains("a")
+        assert not cache.contains("b")
+        assert cache.stats()["hits"] == 0
+        assert cache.stats()["misses"] == 0
+
+    def test_put_skipped_after_invalidation(self, tmp_path):
+        """Test a response evaluated before an invalidation is not stored."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        _touch(note, 1_000_000_000)
+        cache = ResponseCache()
+        generation = cache.generation
+
+        cache.invalidate_all()
+        cache.put("a", {"success": True, "file": str(note)}, generation=generation)
+
+        assert cache.stats()["entries"] == 0
+
+    def test_put_skipped_when_file_modified_during_evaluation(self, tmp_path):
+        """Test a response is not stored if a referenced file changed after evaluation started."""
+        note = tmp_path / "note.org"
+        note.write_text("x")
+        cache = ResponseCache()
+        started_ns = time.time_ns()
+
+        _touch(note, started_ns + 1)
+        cache.put("a", {"success": True, "file": str(note)}, started_ns=started_ns)
+        assert cache.stats()["entries"] == 0
+
+        _touch(note, started_ns - 10_000_000_000)
+        cache.put("a", {"success": True, "file": str(note)}, started_ns=started_ns)
+        assert cache.stats()["entries"] == 1
@@ -0,0 +1,166 @@
+"""Tests for JSON-RPC batch handling in the HTTP endpoint."""
+
+import json
+
+import pytest
+from unittest.mock import patch
+
+from org_roam_mcp.emacs_client import EmacsBatchResultError, EmacsClient, EmacsClientError
+
+# The server module creates its EmacsClient on import
+with patch.object(EmacsClient, '_load_emacs_packages'):
+    from org_roam_mcp import server
+
+
+class FakeRequest:
+    """Minimal stand-in for a Starlette request carrying a JSON body."""
+
+    def __init__(self, payload):
+        self.payload = payload
+
+    async def body(self):
+        return json.dumps(self.payload).encode()
+
+
+def properties_call(request_id, identifier):
+    """Build a get_note_properties tools/call request."""
+    return {
+        "jsonrpc": "2.0",
+        "id": request_id,
+        "method": "tools/call",
+        "params": {"name": "get_note_properties", "arguments": {"identifier": identifier}},
+    }
+
+
+@pytest.fixture
+def emacs_client():
+    """Return the server's EmacsClient with a clean cache and closed circuit breaker."""
+    client = server.emacs_client
+    client.response_cache.invalidate_all()
+    client.circuit_breaker.record_success()
+    return client
+
+
+@pytest.fixture
+def post(emacs_client):
+    """Return a coroutine that POSTs a JSON-RPC payload to the MCP endpoint."""
+    app = server.create_starlette_app()
+    endpoint = next(
+        route.endpoint for route in app.routes
+        if getattr(route, "path", None) == "/" and "POST" in (getattr(route, "methods", None) or ())
+    )
+
+    async def post_payload(payload):
+        response = await endpoint(FakeRequest(payload))
+        return response.status_code, json.loads(response.body) if response.body else None
+
+    return post_payload
+
+
+class TestBatchRequests:
+    """Test JSON-RPC batch requests to the HTTP endpoint."""
+
+    @pytest.mark.asyncio
+    async def test_batch_combines_reads_in_request_order(self, post, emacs_client):
+        """Test batched reads are evaluated together and answered in request order."""
+        batch = [properties_call(1, "a"), {"jsonrpc": "2.0", "id": 2, "method": "tools/list"},
+                 properties_call(3, "b")]
+        results = [{"success": True, "properties": {"ID": "a"}},
+                   {"success": True, "properties": {"ID": "b"}}]
+
+        with patch.object(emacs_client, 'eval_elisp_batch', return_value=results) as mock_batch, \
+                patch.object(emacs_client, '_run_elisp') as mock_run:
+            status, body = await post(batch)
+
+        assert status == 200
+        assert [response["id"] for response in body] == [1, 2, 3]
+        assert body[0]["result"] == results[0]
+        assert "tools" in body[1]["result"]
+        assert body[2]["result"] == results[1]
+        mock_batch.assert_called_once()
+        assert len(mock_batch.call_args[0][0]) == 2
+        mock_run.assert_not_called()
+
+    @pytest.mark.asyncio
+    async def test_batch_reports_errors_per_entry(self, post, emacs_client):
+        """Test malformed entries only produce an error for themselves."""
+        malformed = properties_call(2, "b")
+        malformed["params"]["arguments"] = None
+        unhashable_name = properties_call(4, "c")
+        unhashable_name["params"]["name"] = ["get_note_properties"]
+        batch = [properties_call(1, "a"), malformed, 5, unhashable_name]
+
+        with patch.object(emacs_client, '_run_elisp',
+                          return_value='{"success": true, "properties": {}}'):
+            status, body = await post(batch)
+
+        assert status == 200
+        assert body[0] == {"jsonrpc": "2.0", "id": 1, "result": {"success": True, "properties": {}}}
+        assert body[1]["id"] == 2
+        assert body[1]["error"]["code"] == -32603
+        assert body[2] == {"jsonrpc": "2.0", "id": None,
+                           "error": {"code": -32600, "message": "Invalid Request"}}
+        assert body[3]["id"] == 4
+        assert body[3]["error"]["code"] == -32601
+
+    @pytest.mark.asyncio
+    async def test_empty_batch(self, post):
+        """Test an empty batch is an invalid request."""
+        status, body = await post([])
+
+        assert status == 200
+        assert body["error"]["code"] == -32600
+
+    @pytest.mark.asyncio
+    async def test_batch_omits_notifications(self, post, emacs_client):
+        """Test requests without an id run but get no response entry."""
+        notification = properties_call(1, "a")
+        del notification["id"]
+
+        with patch.object(emacs_client, '_run_elisp',
+                          return_value='{"success": true, "properties": {}}') as mock_run:
+            status, body = await post([notification])
+
+        assert status == 200
+        assert body is None
+        mock_run.assert_called_once()
+
+    @pytest.mark.asyncio
+    async def test_batch_falls_back_when_combined_result_unusable(self, post, emacs_client):
+        """Test reads are evaluated separately when the combined result cannot be split."""
+        with patch.object(emacs_client, 'eval_elisp_batch',
+                          side_effect=EmacsBatchResultError("wrong length")), \
+                patch.object(emacs_client, '_run_elisp',
+                             return_value='{"success": true, "properties": {}}') as mock_run:
+            status, body = await post([properties_call(1, "a"), properties_call(2, "b")])
+
+        assert status == 200
+        assert [response["result"]["success"] for response in body] == [True, True]
+        assert mock_run.call_count == 2
+
+    @pytest.mark.asyncio
+    async def test_batch_does_not_retry_after_timeout(self, post, emacs_client):
+        """Test a timed out combined call is reported without evaluating each read again."""
+        with patch.object(emacs_client, 'eval_elisp_batch',
+                          side_effect=EmacsClientError("timed out")), \
+                patch.object(emacs_client, '_run_elisp') as mock_run:
+            status, body = await post([properties_call(1, "a"), properties_call(2, "b")])
+
+        assert status == 200
+        assert [response["id"] for response in body] == [1, 2]
+        assert all("timed out" in response["error"]["message"] for response in body)
+        mock_run.assert_not_called()
+
+    @pytest.mark.asyncio
+    async def test_batch_chunks_combined_calls(self, post, emacs_client):
+        """Test large batches are combined in chunks of BATCH_CHUNK_SIZE."""
+        batch = [properties_call(i, str(i)) for i in range(5)]
+
+        with patch.object(server, 'BATCH_CHUNK_SIZE', 2), \
+                patch.object(emacs_client, 'eval_elisp_batch',
+                             side_effect=lambda chunk: [{"success": True}] * len(chunk)) as mock_batch:
+            status, body = await post(batch)
+
+        assert status == 200
+        assert len(body) == 5
+        assert [len(call[0][0]) for call in mock_batch.call_args_list] == [2, 2, 1]